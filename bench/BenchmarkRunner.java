@@ -0,0 +1,35 @@
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks with the gc profiler attached, so every result shows allocation per
+ * operation next to its throughput or time. Results are also written as JSON to
+ * bench/results.json for comparing runs before and after a change.
+ * Run from the project root so the benchmarks can find resources/.
+ */
+public class BenchmarkRunner {
+  /**
+   * Main method to run the benchmarks.
+   *
+   * @param args regular expressions selecting the benchmarks to run, for example
+   *             "ModelBenchmark.placeCard"; runs every benchmark if empty
+   * @throws RunnerException if JMH fails to run
+   */
+  public static void main(String[] args) throws RunnerException {
+    ChainedOptionsBuilder options = new OptionsBuilder()
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result("bench/results.json");
+    if (args.length == 0) {
+      options.include(".*Benchmark.*");
+    }
+    for (String pattern : args) {
+      options.include(pattern);
+    }
+    new Runner(options.build()).run();
+  }
+}
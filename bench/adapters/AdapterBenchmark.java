@@ -0,0 +1,120 @@
+package adapters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Color;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import model.BenchmarkBoards;
+import model.GridType;
+import model.ThreeTriosGameModel;
+import provider.model.GameCard;
+import provider.model.PlayerColor;
+
+/**
+ * Measures the conversions between our model and the provider's interfaces which the provider
+ * view goes through on every repaint, on the checkerboard mid-game positions from
+ * BenchmarkBoards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdapterBenchmark {
+  @Param({"3", "5", "7", "9"})
+  public int gridSize;
+
+  @Param({"1", "5", "10"})
+  public int handSize;
+
+  private ThreeTriosGameModel model;
+  private GridAdapter grid;
+  private PlayerAdapter player;
+  private GameCard gameCard;
+
+  /**
+   * Builds the position and the adapters over it.
+   */
+  @Setup
+  public void setUp() {
+    model = BenchmarkBoards.midGame(gridSize, handSize, GridType.STANDARD);
+    grid = new GridAdapter(model.getGrid());
+    player = new PlayerAdapter(model.getPlayerRed());
+    gameCard = model.returnPlayerHand(PlayerColor.RED).get(0);
+  }
+
+  /**
+   * Adapts every cell of the board, as the provider's grid panel does.
+   */
+  @Benchmark
+  public void returnCell(Blackhole blackhole) {
+    for (int row = 0; row < gridSize; row++) {
+      for (int col = 0; col < gridSize; col++) {
+        blackhole.consume(model.returnCell(row, col));
+      }
+    }
+  }
+
+  /**
+   * Adapts a player's hand through the model.
+   */
+  @Benchmark
+  public List<GameCard> returnPlayerHand() {
+    return model.returnPlayerHand(PlayerColor.RED);
+  }
+
+  /**
+   * Adapts a player's hand through PlayerAdapter.
+   */
+  @Benchmark
+  public List<GameCard> retrieveHand() {
+    return player.retrieveHand();
+  }
+
+  /**
+   * Lists the card cells through GridAdapter.
+   */
+  @Benchmark
+  public List<provider.model.Cell> cardCellList() {
+    return grid.cardCellList();
+  }
+
+  /**
+   * Counts a colour's cells through GridAdapter.
+   */
+  @Benchmark
+  public int countColorOnGrid() {
+    return grid.countColorOnGrid(Color.RED);
+  }
+
+  /**
+   * Scores a player through the provider's interface.
+   */
+  @Benchmark
+  public int calculateScore() {
+    return model.calculateScore(PlayerColor.RED);
+  }
+
+  /**
+   * Converts a provider card back into one of ours to count its flips in the centre.
+   */
+  @Benchmark
+  public int howManyCardsCanBeFlipped() {
+    return model.howManyCardsCanBeFlipped(gameCard, gridSize / 2, gridSize / 2,
+            PlayerColor.RED);
+  }
+}
@@ -0,0 +1,140 @@
+package controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import model.BenchmarkBoards;
+import model.Card;
+import model.Grid;
+
+/**
+ * Measures reading grid and card configuration files. The files are generated into a temporary
+ * directory: a square grid with a hole in every fifth cell, and a deck with one more card than
+ * the grid has cells, like the files in resources/. Each is also written in the binary format,
+ * to compare the two readers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReaderBenchmark {
+  @Param({"3", "9", "27"})
+  public int gridSize;
+
+  private File gridFile;
+  private File cardFile;
+  private File binaryGridFile;
+  private File binaryCardFile;
+  private GridFileReader gridReader;
+  private CardFileReader cardReader;
+  private CardFileReader nioCardReader;
+  private GridFileReader binaryGridReader;
+  private CardFileReader binaryCardReader;
+
+  /**
+   * Writes the grid and card files.
+   *
+   * @throws IOException if the files cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    gridFile = File.createTempFile("grid", ".txt");
+    cardFile = File.createTempFile("cards", ".txt");
+    try (PrintWriter writer = new PrintWriter(gridFile)) {
+      writer.println(gridSize + " " + gridSize);
+      for (int row = 0; row < gridSize; row++) {
+        StringBuilder line = new StringBuilder();
+        for (int col = 0; col < gridSize; col++) {
+          line.append((row * gridSize + col) % 5 == 4 ? 'X' : 'C');
+        }
+        writer.println(line);
+      }
+    }
+    try (PrintWriter writer = new PrintWriter(cardFile)) {
+      for (Card card : BenchmarkBoards.randomDeck(gridSize * gridSize + 1,
+              BenchmarkBoards.SEED)) {
+        writer.println(card.getName() + " " + card.getNorthValue() + " "
+                + card.getSouthValue() + " " + card.getEastValue() + " " + card.getWestValue());
+      }
+    }
+    gridReader = new GridFileReaderImpl();
+    cardReader = new CardFileReaderImpl();
+    nioCardReader = new NioCardFileReader();
+
+    binaryGridFile = File.createTempFile("grid", ".ttg");
+    binaryCardFile = File.createTempFile("cards", ".ttc");
+    BinaryConfigWriter.writeGrid(gridReader.readGrid(gridFile), binaryGridFile);
+    BinaryConfigWriter.writeCards(cardReader.readCards(cardFile), binaryCardFile);
+    binaryGridReader = new BinaryGridFileReader();
+    binaryCardReader = new BinaryCardFileReader();
+  }
+
+  /**
+   * Deletes the generated files.
+   */
+  @TearDown
+  public void tearDown() {
+    gridFile.delete();
+    cardFile.delete();
+    binaryGridFile.delete();
+    binaryCardFile.delete();
+  }
+
+  /**
+   * Reads the grid file.
+   */
+  @Benchmark
+  public Grid readGrid() {
+    return gridReader.readGrid(gridFile);
+  }
+
+  /**
+   * Reads the card file.
+   */
+  @Benchmark
+  public List<Card> readCards() {
+    return cardReader.readCards(cardFile);
+  }
+
+  /**
+   * Reads the card file with NioCardFileReader.
+   */
+  @Benchmark
+  public List<Card> readCardsNio() {
+    return nioCardReader.readCards(cardFile);
+  }
+
+  /**
+   * Reads the binary grid file.
+   */
+  @Benchmark
+  public Grid readBinaryGrid() {
+    return binaryGridReader.readGrid(binaryGridFile);
+  }
+
+  /**
+   * Reads the binary card file.
+   */
+  @Benchmark
+  public List<Card> readBinaryCards() {
+    return binaryCardReader.readCards(binaryCardFile);
+  }
+}
@@ -0,0 +1,88 @@
+package model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import controller.CardFileReaderImpl;
+
+/**
+ * Measures a full combo cascade through the model. The 3x3 board is filled with the
+ * cards_for_combo deck in a snake from 9 down to 2, and blue plays the A card into the empty
+ * top-left corner, which flips all eight red cards one after another; undoMove() then hands them
+ * back, so every invocation starts from the same position and the model's owned-cell counts stay
+ * right. BenchmarkRunner attaches the gc profiler, which shows the allocation rate next to the
+ * time per move.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattlePhaseBenchmark {
+  // cells of the snake, strongest card first
+  private static final int[][] SNAKE = {
+      {0, 0}, {0, 1}, {0, 2}, {1, 2}, {1, 1}, {1, 0}, {2, 0}, {2, 1}, {2, 2}
+  };
+  // CardJ, CardI, CardG, CardC, CardE, CardA, CardD, CardF, CardB
+  private static final int[] SNAKE_CARDS = {9, 8, 6, 2, 4, 0, 3, 5, 1};
+
+  @Param({"STANDARD", "BITBOARD"})
+  public GridType gridType;
+
+  private ThreeTriosGameModel model;
+  private Move cascadeMove;
+  private Cell lastCell;
+
+  /**
+   * Builds the board with the cascade ready to go from the top-left corner.
+   */
+  @Setup
+  public void setUp() {
+    List<Card> cards = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    Cell[][] cells = new Cell[3][3];
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        cells[row][col] = new CellImpl(false);
+      }
+    }
+    Grid grid = GridFactory.createGrid(cells, gridType);
+    Player red = new PlayerImpl("Red");
+    Player blue = new PlayerImpl("Blue");
+    for (int i = 1; i < SNAKE.length; i++) {
+      grid.placeCard(cards.get(SNAKE_CARDS[i]), SNAKE[i][0], SNAKE[i][1], red);
+    }
+    Card corner = cards.get(SNAKE_CARDS[0]);
+    blue.addCardToHand(corner);
+    model = new ThreeTriosGameModel(grid, red, blue, blue);
+    // measure the battle, not the snapshots nothing here reads
+    model.setPublishingStates(false);
+    cascadeMove = new Move(corner, SNAKE[0][0], SNAKE[0][1]);
+    lastCell = grid.getCell(SNAKE[SNAKE.length - 1][0], SNAKE[SNAKE.length - 1][1]);
+  }
+
+  /**
+   * Plays the corner card, which runs the cascade, and takes it back again.
+   */
+  @Benchmark
+  public Player cascade() {
+    model.applyMove(cascadeMove);
+    Player owner = lastCell.getOwner();
+    model.undoMove();
+    return owner;
+  }
+}
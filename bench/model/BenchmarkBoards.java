@@ -0,0 +1,84 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Builds the boards, decks and positions shared by the benchmarks. Everything is generated from a
+ * seed, so every run measures exactly the same positions.
+ */
+public final class BenchmarkBoards {
+  public static final long SEED = 42;
+
+  private BenchmarkBoards() {
+  }
+
+  /**
+   * Creates a square grid of card cells with no holes.
+   *
+   * @param size number of rows and columns
+   * @param type grid implementation to use
+   * @return the empty grid
+   */
+  public static Grid emptyGrid(int size, GridType type) {
+    Cell[][] cells = new Cell[size][size];
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        cells[row][col] = new CellImpl(false);
+      }
+    }
+    return GridFactory.createGrid(cells, type);
+  }
+
+  /**
+   * Creates a deck of cards with random values.
+   *
+   * @param count number of cards
+   * @param seed  seed for the values
+   * @return the deck, named Card0, Card1, ...
+   */
+  public static List<Card> randomDeck(int count, long seed) {
+    Random random = new Random(seed);
+    Value[] values = Value.values();
+    List<Card> deck = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      deck.add(CardFactory.createCard("Card" + i, values[random.nextInt(values.length)],
+              values[random.nextInt(values.length)], values[random.nextInt(values.length)],
+              values[random.nextInt(values.length)]));
+    }
+    return deck;
+  }
+
+  /**
+   * Creates a mid-game position: every other cell of a size x size grid is filled in a
+   * checkerboard with cards owned by either player at random, so every open cell has occupied
+   * neighbours to battle. On odd sizes the corners and the centre stay open. Both players hold
+   * handSize cards and it is Red's turn.
+   *
+   * @param size     number of rows and columns
+   * @param handSize cards in each player's hand
+   * @param type     grid implementation to use
+   * @return the position
+   */
+  public static ThreeTriosGameModel midGame(int size, int handSize, GridType type) {
+    Random random = new Random(SEED);
+    Grid grid = emptyGrid(size, type);
+    List<Card> deck = randomDeck(size * size + 2 * handSize, SEED);
+    Player red = new PlayerImpl("Red");
+    Player blue = new PlayerImpl("Blue");
+    int next = 0;
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        if ((row + col) % 2 == 1) {
+          grid.placeCard(deck.get(next++), row, col, random.nextBoolean() ? red : blue);
+        }
+      }
+    }
+    for (int i = 0; i < handSize; i++) {
+      red.addCardToHand(deck.get(next++));
+      blue.addCardToHand(deck.get(next++));
+    }
+    return new ThreeTriosGameModel(grid, red, blue, red);
+  }
+}
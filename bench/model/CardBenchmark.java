@@ -0,0 +1,73 @@
+package model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the card operations the battle phase and the readers lean on: comparing two cards in
+ * every direction, and interning a card that is already in the registry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+  private static final int CARDS = 256;
+
+  private final Card[] cards = new Card[CARDS];
+  private final Direction[] directions = Direction.values();
+
+  /**
+   * Interns a fixed set of random cards.
+   */
+  @Setup
+  public void setUp() {
+    Value[] values = Value.values();
+    Random random = new Random(42);
+    for (int i = 0; i < CARDS; i++) {
+      cards[i] = CardFactory.createCard("Card" + i % 16, values[random.nextInt(10)],
+              values[random.nextInt(10)], values[random.nextInt(10)], values[random.nextInt(10)]);
+    }
+  }
+
+  /**
+   * Compares each card against the next one in all four directions.
+   */
+  @Benchmark
+  @OperationsPerInvocation(CARDS * 4)
+  public int compareAgainst() {
+    int wins = 0;
+    for (int i = 0; i < CARDS; i++) {
+      Card attacker = cards[i];
+      Card defender = cards[(i + 1) % CARDS];
+      for (Direction direction : directions) {
+        if (attacker.compareAgainst(defender, direction)) {
+          wins++;
+        }
+      }
+    }
+    return wins;
+  }
+
+  /**
+   * Looks up a card that has already been interned.
+   */
+  @Benchmark
+  public Card intern() {
+    return CardRegistry.intern("Card0", cards[0].getPackedValues());
+  }
+}
@@ -0,0 +1,130 @@
+package model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the model operations the strategies and controller call on every turn, on the
+ * checkerboard mid-game positions from BenchmarkBoards. placeCard has no undo of its own, so that
+ * benchmark puts the board back afterwards; resetBoard measures that clean-up alone so it can be
+ * subtracted.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelBenchmark {
+  @Param({"3", "5", "7", "9"})
+  public int gridSize;
+
+  @Param({"1", "5", "10"})
+  public int handSize;
+
+  @Param({"STANDARD", "BITBOARD"})
+  public GridType gridType;
+
+  private ThreeTriosGameModel model;
+  private Player red;
+  private Card card;
+  private int row;
+  private int col;
+  private Cell[] occupiedCells;
+  private Player[] owners;
+
+  /**
+   * Builds the position and picks the open centre cell to play into.
+   */
+  @Setup
+  public void setUp() {
+    model = BenchmarkBoards.midGame(gridSize, handSize, gridType);
+    red = model.getPlayerRed();
+    card = red.getHand().get(0);
+    row = gridSize / 2;
+    col = gridSize / 2;
+
+    Grid grid = model.getGrid();
+    int occupied = grid.getNumberOfCardCells() / 2;
+    occupiedCells = new Cell[occupied];
+    owners = new Player[occupied];
+    int next = 0;
+    for (int r = 0; r < gridSize; r++) {
+      for (int c = 0; c < gridSize; c++) {
+        if (grid.getCell(r, c).isOccupied()) {
+          occupiedCells[next] = grid.getCell(r, c);
+          owners[next++] = grid.getCell(r, c).getOwner();
+        }
+      }
+    }
+  }
+
+  /**
+   * Places a card, battles, and then puts the board back the way it was.
+   */
+  @Benchmark
+  public int placeCard() {
+    model.placeCard(red, card, row, col);
+    int redCells = model.getGrid().getOwnedCellCount(red);
+    model.getGrid().removeCard(row, col);
+    red.addCardToHand(0, card);
+    resetBoard();
+    return redCells;
+  }
+
+  /**
+   * Restores the owner of every card that started on the board.
+   */
+  @Benchmark
+  public void resetBoard() {
+    for (int i = 0; i < occupiedCells.length; i++) {
+      occupiedCells[i].setOwner(owners[i]);
+    }
+  }
+
+  /**
+   * Plays and takes back a move through the model's undo stack.
+   */
+  @Benchmark
+  public int applyAndUndoMove() {
+    model.applyMove(new Move(card, row, col));
+    int redCells = model.getGrid().getOwnedCellCount(red);
+    model.undoMove();
+    return redCells;
+  }
+
+  /**
+   * Counts the flips a card would make in the centre of the board.
+   */
+  @Benchmark
+  public int getPotentialFlips() {
+    return model.getPotentialFlips(red, card, row, col);
+  }
+
+  /**
+   * Counts the flips a card would make in the centre of the board, combo steps included.
+   */
+  @Benchmark
+  public int getCascadeFlips() {
+    return model.getCascadeFlips(red, card, row, col);
+  }
+
+  /**
+   * Scores a player, as the views and strategies do after every move.
+   */
+  @Benchmark
+  public int getPlayerScore() {
+    return model.getPlayerScore(red);
+  }
+}
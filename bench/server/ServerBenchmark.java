@@ -0,0 +1,142 @@
+package server;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import controller.Features;
+import model.BenchmarkBoards;
+import model.BitboardGrid;
+import model.Card;
+import model.GameState;
+import model.GridType;
+import model.Player;
+
+/**
+ * Measures how many moves per second a GameServer sustains while hosting many matches at once.
+ * Every operation is one move: each invocation plays SESSIONS full games on 3x3 grids between
+ * bots which answer every position straight away, so the time measured is the server's own.
+ * Divide the score by the stripe count for moves per second per core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerBenchmark {
+  private static final int SESSIONS = 1000;
+  private static final int MOVES_PER_GAME = 9;
+
+  @Param({"1", "2", "4"})
+  public int stripes;
+
+  private GameServer server;
+  private BitboardGrid grid;
+  private List<Card> deck;
+
+  /**
+   * Starts the server and builds the grid and deck every game copies.
+   */
+  @Setup
+  public void setUp() {
+    server = new GameServer(stripes);
+    grid = (BitboardGrid) BenchmarkBoards.emptyGrid(3, GridType.BITBOARD);
+    deck = BenchmarkBoards.randomDeck(MOVES_PER_GAME + 1, BenchmarkBoards.SEED);
+  }
+
+  /**
+   * Stops the server.
+   */
+  @TearDown
+  public void tearDown() {
+    server.close();
+  }
+
+  /**
+   * Plays SESSIONS games to the end, all at once, then closes them.
+   */
+  @Benchmark
+  @OperationsPerInvocation(SESSIONS * MOVES_PER_GAME)
+  public long playGames() throws InterruptedException {
+    CountDownLatch finished = new CountDownLatch(SESSIONS);
+    List<GameSession> sessions = new ArrayList<>(SESSIONS);
+    for (int i = 0; i < SESSIONS; i++) {
+      Bot red = new Bot(finished);
+      Bot blue = new Bot(null);
+      GameSession session = server.openSession(grid.copy(), new ArrayList<>(deck),
+              new Random(i), red, blue);
+      red.seat = session.getRedSeat();
+      blue.seat = session.getBlueSeat();
+      sessions.add(session);
+    }
+    for (GameSession session : sessions) {
+      session.start();
+    }
+    finished.await();
+    for (GameSession session : sessions) {
+      server.closeSession(session.getId());
+    }
+    return server.getMovesPlayed();
+  }
+
+  /**
+   * Plays the first card in hand on the uppermost-leftmost open cell whenever it is its turn.
+   */
+  private static final class Bot implements SessionListener {
+    private final CountDownLatch finished;
+    private Features seat;
+    private Player me;
+
+    Bot(CountDownLatch finished) {
+      this.finished = finished;
+    }
+
+    @Override
+    public void stateChanged(GameState state) {
+      if (me == null) {
+        me = finished != null ? state.getPlayerRed() : state.getPlayerBlue();
+      }
+      if (state.isGameOver() || state.getCurrentPlayer() != me) {
+        return;
+      }
+      for (int row = 0; row < state.getRows(); row++) {
+        for (int col = 0; col < state.getCols(); col++) {
+          if (!state.isOccupied(row, col)) {
+            seat.cardSelected(state.getHand(me).get(0));
+            seat.cellSelected(row, col);
+            return;
+          }
+        }
+      }
+    }
+
+    @Override
+    public void selectionRejected(String message) {
+      throw new IllegalStateException(message);
+    }
+
+    @Override
+    public void gameOver(String result) {
+      if (finished != null) {
+        finished.countDown();
+      }
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package strategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import model.BenchmarkBoards;
+import model.GridType;
+import model.Move;
+import model.Player;
+import model.ThreeTriosGameModel;
+
+/**
+ * Measures how long the simple strategies take to choose a move on the checkerboard mid-game
+ * positions from BenchmarkBoards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyBenchmark {
+  @Param({"3", "5", "7", "9", "15"})
+  public int gridSize;
+
+  @Param({"1", "5", "10"})
+  public int handSize;
+
+  private ThreeTriosGameModel model;
+  private Player red;
+  private MoveStrategy flipMax;
+  private MoveStrategy parallelFlipMax;
+  private MoveStrategy corner;
+
+  /**
+   * Builds the position and the strategies.
+   */
+  @Setup
+  public void setUp() {
+    model = BenchmarkBoards.midGame(gridSize, handSize, GridType.STANDARD);
+    red = model.getPlayerRed();
+    flipMax = new FlipMaxStrategy();
+    parallelFlipMax = new FlipMaxStrategy(false, ForkJoinPool.commonPool());
+    corner = new CornerStrategy();
+  }
+
+  /**
+   * Chooses a move with FlipMaxStrategy.
+   */
+  @Benchmark
+  public Move flipMax() {
+    return flipMax.determineMove(model, red);
+  }
+
+  /**
+   * Chooses a move with FlipMaxStrategy, evaluating candidates on the common fork-join pool.
+   */
+  @Benchmark
+  public Move parallelFlipMax() {
+    return parallelFlipMax.determineMove(model, red);
+  }
+
+  /**
+   * Chooses a move with CornerStrategy.
+   */
+  @Benchmark
+  public Move corner() {
+    return corner.determineMove(model, red);
+  }
+}
@@ -1,4 +1,5 @@
 import adapters.ViewAdapter;
+import controller.AiTurnRunner;
 import controller.CardFileReader;
 import controller.CardFileReaderImpl;
 import controller.GridFileReader;
@@ -14,18 +15,27 @@ import model.ThreeTriosGameModel;
 import provider.model.ReadOnlyThreeTriosModel;
 import provider.view.BluePlayerView;
 import strategy.CornerStrategy;
+import strategy.EndgameStrategy;
 import strategy.FlipMaxStrategy;
+import strategy.MctsStrategy;
+import strategy.MinimaxStrategy;
 import view.ThreeTriosView;
 import view.ThreeTriosViewInterface;
 
 import java.io.File;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import javax.swing.SwingUtilities;
 
 /**
  * Main class to start the Three Trios game.
  */
 public class Main {
+  // how long an AI player may think about each move
+  private static final long AI_TURN_MILLIS = 2000;
+
   /**
    * Main method to run the game and can be played against PvP or PvCPU or CPUvCPU.
    *
@@ -37,7 +47,9 @@ public class Main {
     if (args.length != 2) {
       // error handling for wrong arguments
       System.out.println("Usage: java Main <player1Type> <player2Type>");
-      System.out.println("playerType options: human, flipmaxStrategy, cornerStrategy");
+      System.out.println("playerType options: human, flipmaxStrategy, "
+              + "cascadeFlipmaxStrategy, cornerStrategy, minimaxStrategy, mctsStrategy, "
+              + "endgameStrategy");
       System.exit(1);
     }
 
@@ -64,8 +76,13 @@ public class Main {
     BluePlayerView providerBlueView = new BluePlayerView(model);
     ThreeTriosViewInterface viewBlue = new ViewAdapter(providerBlueView);
 
+    // AI turns search off the Swing thread and are played back on it
+    AiTurnRunner aiTurns = new AiTurnRunner(SwingUtilities::invokeLater, AI_TURN_MILLIS);
+    Runtime.getRuntime().addShutdownHook(new Thread(aiTurns::close));
+
     ThreeTriosController controllerRed = new ThreeTriosController(
-            model, playerRed, (Player) playerRed, viewRed, viewBlue, (PlayerAction) playerBlue);
+            model, playerRed, (Player) playerRed, viewRed, viewBlue, (PlayerAction) playerBlue,
+            aiTurns);
 
     ThreeTriosController controllerBlue = new ThreeTriosController(
             model, playerBlue, (Player) playerBlue, viewBlue, viewRed, (PlayerAction) playerRed);
@@ -83,12 +100,22 @@ public class Main {
       case "human":
         return new PlayerImpl(color);
       case "flipmaxstrategy":
-        return new AIPlayer(color, new FlipMaxStrategy());
+        return new AIPlayer(color, new FlipMaxStrategy(false, ForkJoinPool.commonPool()));
+      case "cascadeflipmaxstrategy":
+        return new AIPlayer(color, new FlipMaxStrategy(true, ForkJoinPool.commonPool()));
       case "cornerstrategy":
         return new AIPlayer(color, new CornerStrategy());
+      case "minimaxstrategy":
+        return new AIPlayer(color, new MinimaxStrategy());
+      case "mctsstrategy":
+        return new AIPlayer(color, new MctsStrategy());
+      case "endgamestrategy":
+        return new AIPlayer(color, new EndgameStrategy(
+                new FlipMaxStrategy(false, ForkJoinPool.commonPool())));
       default:
         System.out.println("Invalid player type: " + playerType);
-        System.out.println("Valid options: human, flipmaxStrategy, cornerStrategy");
+        System.out.println("Valid options: human, flipmaxStrategy, cascadeFlipmaxStrategy, "
+                + "cornerStrategy, minimaxStrategy, mctsStrategy, endgameStrategy");
         System.exit(1);
         return null;
     }
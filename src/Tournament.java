@@ -0,0 +1,87 @@
+import simulation.TournamentResult;
+import simulation.TournamentRunner;
+import strategy.CornerStrategy;
+import strategy.EndgameStrategy;
+import strategy.FlipMaxStrategy;
+import strategy.MctsStrategy;
+import strategy.MinimaxStrategy;
+import strategy.MoveStrategy;
+
+import java.io.File;
+import java.util.function.Supplier;
+
+/**
+ * Headless entry point which plays AI-vs-AI games and prints the totals, without opening any
+ * windows.
+ */
+public class Tournament {
+  /**
+   * Main method to run a tournament between two strategies.
+   *
+   * @param args strategy1 strategy2 games [gridConfig cardConfig] [threads] [seed]
+   */
+  public static void main(String[] args) {
+    if (args.length != 3 && args.length < 5 || args.length > 7) {
+      System.out.println("Usage: java Tournament <strategy1> <strategy2> <games> "
+              + "[<gridConfig> <cardConfig>] [threads] [seed]");
+      System.out.println("strategy options: flipmaxStrategy, cascadeFlipmaxStrategy, "
+              + "cornerStrategy, minimaxStrategy, mctsStrategy, endgameStrategy");
+      System.exit(1);
+    }
+
+    String gridConfigPath = "resources/grid_configs/grid1.txt";
+    String cardConfigPath = "resources/card_configs/cards3.txt";
+    int threads = Runtime.getRuntime().availableProcessors();
+    long seed = 0;
+    if (args.length >= 5) {
+      gridConfigPath = args[3];
+      cardConfigPath = args[4];
+    }
+    if (args.length >= 6) {
+      threads = Integer.parseInt(args[5]);
+    }
+    if (args.length == 7) {
+      seed = Long.parseLong(args[6]);
+    }
+    int games = Integer.parseInt(args[2]);
+
+    TournamentRunner runner = new TournamentRunner(new File(gridConfigPath),
+            new File(cardConfigPath), createStrategy(args[0]), createStrategy(args[1]), threads);
+
+    long start = System.nanoTime();
+    TournamentResult result = runner.run(games, seed);
+    long millis = (System.nanoTime() - start) / 1_000_000;
+
+    System.out.println(args[0] + " vs " + args[1] + " on " + gridConfigPath);
+    System.out.println(args[0] + " wins: " + result.getFirstWins());
+    System.out.println(args[1] + " wins: " + result.getSecondWins());
+    System.out.println("Ties: " + result.getTies());
+    System.out.printf("Average margin: %.3f (largest win %d, largest loss %d)%n",
+            result.getAverageMargin(), result.getLargestWin(), result.getLargestLoss());
+    System.out.println("Played " + result.getGames() + " games in " + millis + " ms");
+  }
+
+  private static Supplier<MoveStrategy> createStrategy(String strategyType) {
+    switch (strategyType.toLowerCase()) {
+      case "flipmaxstrategy":
+        return FlipMaxStrategy::new;
+      case "cascadeflipmaxstrategy":
+        return () -> new FlipMaxStrategy(true);
+      case "cornerstrategy":
+        return CornerStrategy::new;
+      case "minimaxstrategy":
+        return MinimaxStrategy::new;
+      case "mctsstrategy":
+        // the tournament already keeps every core busy with games
+        return () -> new MctsStrategy(1, 1000);
+      case "endgamestrategy":
+        return () -> new EndgameStrategy(new FlipMaxStrategy());
+      default:
+        System.out.println("Invalid strategy: " + strategyType);
+        System.out.println("Valid options: flipmaxStrategy, cascadeFlipmaxStrategy, "
+                + "cornerStrategy, minimaxStrategy, mctsStrategy, endgameStrategy");
+        System.exit(1);
+        return null;
+    }
+  }
+}
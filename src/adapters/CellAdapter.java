@@ -4,21 +4,24 @@ package adapters;
 import java.awt.Color;
 
 import model.Card;
+import model.CardFactory;
 import model.Cell;
 import model.Player;
 import model.PlayerImpl;
-import model.StandardCard;
 import model.Value;
 import provider.model.Direction;
 import provider.model.GameCard;
 
 /**
- * Adapter class for cell to adapt provider cell to ours.
+ * Adapter class for cell to adapt provider cell to ours. The adapter reads the cell it wraps on
+ * every call, so one instance stays valid for as long as that cell is on the grid, and it keeps
+ * the GameCardAdapter of the card in the cell until a different card or owner is there.
  */
 public class CellAdapter implements provider.model.Cell {
   private final Cell cell;
   private final int row;
   private final int col;
+  private GameCardAdapter cardAdapter;
 
 
   /**
@@ -80,7 +83,7 @@ public class CellAdapter implements provider.model.Cell {
 
   @Override
   public provider.model.Cell returnCell() {
-    return new CellAdapter(cell, row, col);
+    return this;
   }
 
   @Override
@@ -88,12 +91,24 @@ public class CellAdapter implements provider.model.Cell {
     if (cell.isOccupied()) {
       Card card = cell.getCard();
       Player owner = cell.getOwner();
-      return new GameCardAdapter(card, owner);
+      GameCardAdapter adapter = cardAdapter;
+      if (adapter == null || adapter.getCard() != card || adapter.getOwner() != owner) {
+        adapter = new GameCardAdapter(card, owner);
+        cardAdapter = adapter;
+      }
+      return adapter;
     } else {
       return null;
     }
   }
 
+  /**
+   * Gets the cell this adapter wraps.
+   */
+  Cell getCell() {
+    return cell;
+  }
+
   @Override
   public int row() {
     return this.row;
@@ -120,7 +135,7 @@ public class CellAdapter implements provider.model.Cell {
     model.Value east = adaptValue(gameCard.east());
     model.Value west = adaptValue(gameCard.west());
     String name = gameCard.toString();
-    return new StandardCard(name, north, south, east, west);
+    return CardFactory.createCard(name, north, south, east, west);
   }
 
   private model.Value adaptValue(int value) {
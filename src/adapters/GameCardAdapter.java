@@ -26,6 +26,20 @@ public class GameCardAdapter implements GameCard {
     this.owner = owner;
   }
 
+  /**
+   * Gets the card this adapter wraps.
+   */
+  Card getCard() {
+    return card;
+  }
+
+  /**
+   * Gets the player this adapter currently reports as the owner.
+   */
+  Player getOwner() {
+    return owner;
+  }
+
   @Override
   public int north() {
     return card.getNorthValue().getIntValue();
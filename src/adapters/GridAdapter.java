@@ -2,22 +2,29 @@ package adapters;
 
 import java.awt.Color;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import model.Card;
+import model.CardFactory;
 import model.Grid;
 import model.Player;
 import model.PlayerImpl;
-import model.StandardCard;
+import model.ThreeTriosGameModel;
 import model.Value;
 import provider.model.Cell;
 import provider.model.GameCard;
 
 /**
- * Grid adapter class to adapt the prociders' grid to ours.
+ * Grid adapter class to adapt the prociders' grid to ours. The CellAdapter of each cell and the
+ * list of card cells are made once and handed out again for as long as the grid holds the same
+ * cells, since the provider's view asks for them on every repaint.
  */
 public class GridAdapter implements provider.model.Grid {
   private final Grid grid;
+  private final ThreeTriosGameModel model;
+  private CellAdapter[] cellAdapters;
+  private List<Cell> cardCells;
 
   /**
    * Constructor for the GridAdpater class.
@@ -25,7 +32,19 @@ public class GridAdapter implements provider.model.Grid {
    * @param grid grid
    */
   public GridAdapter(Grid grid) {
+    this(grid, null);
+  }
+
+  /**
+   * Constructor for a GridAdapter over the grid of a game, which reads cell counts from the
+   * model's running totals instead of scanning the grid.
+   *
+   * @param grid  grid
+   * @param model the game the grid belongs to, or null to always scan the grid
+   */
+  public GridAdapter(Grid grid, ThreeTriosGameModel model) {
     this.grid = grid;
+    this.model = model;
   }
 
 
@@ -53,6 +72,10 @@ public class GridAdapter implements provider.model.Grid {
 
   @Override
   public int countColorOnGrid(Color color) {
+    if (model != null) {
+      return model.getOwnedCellCount(color.equals(Color.RED)
+              ? model.getPlayerRed() : model.getPlayerBlue());
+    }
     int count = 0;
     for (int row = 0; row < grid.getRows(); row++) {
       for (int col = 0; col < grid.getCols(); col++) {
@@ -81,7 +104,18 @@ public class GridAdapter implements provider.model.Grid {
   @Override
   public Cell returnCell(int row, int col) {
     model.Cell cell = grid.getCell(row, col);
-    return new CellAdapter(cell, row, col);
+    CellAdapter[] adapters = cellAdapters;
+    if (adapters == null) {
+      adapters = new CellAdapter[grid.getRows() * grid.getCols()];
+      cellAdapters = adapters;
+    }
+    int index = row * grid.getCols() + col;
+    CellAdapter adapter = adapters[index];
+    if (adapter == null || adapter.getCell() != cell) {
+      adapter = new CellAdapter(cell, row, col);
+      adapters[index] = adapter;
+    }
+    return adapter;
   }
 
   @Override
@@ -100,8 +134,17 @@ public class GridAdapter implements provider.model.Grid {
     return 0;
   }
 
+  /**
+   * Lists the card cells of the grid. The list cannot be modified, and is the same list on every
+   * call until a cell of the grid is replaced.
+   */
   @Override
   public List<Cell> cardCellList() {
+    List<Cell> cells = cardCells;
+    if (cells != null && isCurrent(cells)) {
+      return cells;
+    }
+
     List<provider.model.Cell> cardCells = new ArrayList<>();
     int numRows = grid.getRows();
     int numCols = grid.getCols();
@@ -110,11 +153,23 @@ public class GridAdapter implements provider.model.Grid {
       for (int col = 0; col < numCols; col++) {
         model.Cell cell = grid.getCell(row, col);
         if (!cell.isHole()) {
-          cardCells.add(new CellAdapter(cell, row, col));
+          cardCells.add(returnCell(row, col));
         }
       }
     }
-    return cardCells;
+    cells = Collections.unmodifiableList(cardCells);
+    this.cardCells = cells;
+    return cells;
+  }
+
+  private boolean isCurrent(List<Cell> cells) {
+    for (int i = 0; i < cells.size(); i++) {
+      CellAdapter adapter = (CellAdapter) cells.get(i);
+      if (adapter.getCell() != grid.getCell(adapter.row(), adapter.col())) {
+        return false;
+      }
+    }
+    return true;
   }
 
   @Override
@@ -128,7 +183,7 @@ public class GridAdapter implements provider.model.Grid {
     model.Value east = adaptValue(gameCard.east());
     model.Value west = adaptValue(gameCard.west());
     String name = gameCard.toString();
-    return new StandardCard(name, north, south, east, west);
+    return CardFactory.createCard(name, north, south, east, west);
   }
 
   private model.Value adaptValue(int value) {
@@ -1,20 +1,22 @@
 package adapters;
 
-import java.util.ArrayList;
 import java.util.List;
 
 
-import model.StandardCard;
 import model.Value;
 import provider.model.GameCard;
 import provider.model.PlayerColor;
 import model.Card;
+import model.CardFactory;
 
 /**
- * Player adapter class to adapt the providers player to ours.
+ * Player adapter class to adapt the providers player to ours. The adapted hand is kept and handed
+ * out again until a card in the player's hand changes, since the provider's view asks for it on
+ * every repaint.
  */
 public class PlayerAdapter implements provider.model.Player {
   private final model.Player player;
+  private List<GameCard> hand = List.of();
 
   /**
    * Construtor for the PlayerAdapter class.
@@ -36,17 +38,54 @@ public class PlayerAdapter implements provider.model.Player {
 
   @Override
   public boolean validateCardInHandIdx(int cardInHandIdx) {
-    return cardInHandIdx >= 0 && cardInHandIdx < player.getHand().size();
+    return cardInHandIdx >= 0 && cardInHandIdx < player.getHandSize();
   }
 
+  /**
+   * Gets the hand of this player. The list cannot be modified, and is the same list on every
+   * call until the player's hand changes.
+   */
   @Override
   public List<GameCard> retrieveHand() {
-    List<Card> hand = player.getHand();
-    List<GameCard> adaptedHand = new ArrayList<>();
-    for (Card card : hand) {
-      adaptedHand.add(new GameCardAdapter(card, player));
+    List<GameCard> cached = hand;
+    int size = player.getHandSize();
+    if (isCurrent(cached, size)) {
+      return cached;
+    }
+
+    GameCard[] adaptedHand = new GameCard[size];
+    for (int i = 0; i < size; i++) {
+      adaptedHand[i] = adaptCard(player.getCardInHand(i), cached);
+    }
+    cached = List.of(adaptedHand);
+    hand = cached;
+    return cached;
+  }
+
+  private boolean isCurrent(List<GameCard> cached, int size) {
+    if (cached.size() != size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      GameCardAdapter adapter = (GameCardAdapter) cached.get(i);
+      if (adapter.getCard() != player.getCardInHand(i) || adapter.getOwner() != player) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Reuses the adapter of the card from the previous hand if it is still there.
+   */
+  private GameCard adaptCard(Card card, List<GameCard> previous) {
+    for (GameCard gameCard : previous) {
+      GameCardAdapter adapter = (GameCardAdapter) gameCard;
+      if (adapter.getCard() == card && adapter.getOwner() == player) {
+        return adapter;
+      }
     }
-    return adaptedHand;
+    return new GameCardAdapter(card, player);
   }
 
   @Override
@@ -86,7 +125,7 @@ public class PlayerAdapter implements provider.model.Player {
     model.Value east = adaptValue(gameCard.east());
     model.Value west = adaptValue(gameCard.west());
     String name = gameCard.toString();
-    return new StandardCard(name, north, south, east, west);
+    return CardFactory.createCard(name, north, south, east, west);
   }
 
   private model.Value adaptValue(int value) {
@@ -0,0 +1,117 @@
+package controller;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import model.AIPlayer;
+import model.GameModel;
+import model.Move;
+import strategy.SearchToken;
+
+/**
+ * Runs AI turns away from the thread that drives the views, so a strategy that searches for a
+ * while does not freeze the windows. The search runs on a thread of the runner's own, against a
+ * deadline; the move it picks is then handed back to the view executor (for Swing,
+ * SwingUtilities::invokeLater) and played there, so the model is still only changed on the view
+ * thread. A turn can be abandoned at any time with cancel(), for example when the game window is
+ * closed, and then nothing is played.
+ */
+public class AiTurnRunner implements AutoCloseable {
+  private final ExecutorService searches;
+  private final Executor viewExecutor;
+  private final long budgetMillis;
+  private volatile SearchToken currentTurn;
+  private volatile boolean closed;
+
+  /**
+   * Constructs a runner with its own search thread.
+   *
+   * @param viewExecutor runs the code that plays each move and updates the views
+   * @param budgetMillis how long each AI turn may search, in milliseconds
+   * @throws IllegalArgumentException if viewExecutor is null or budgetMillis is not positive
+   */
+  public AiTurnRunner(Executor viewExecutor, long budgetMillis) {
+    if (viewExecutor == null) {
+      throw new IllegalArgumentException("View executor cannot be null.");
+    }
+    if (budgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive.");
+    }
+    this.viewExecutor = viewExecutor;
+    this.budgetMillis = budgetMillis;
+    this.searches = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "ai-turn");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Starts an AI turn. The player's strategy searches on the runner's thread until it is done,
+   * the deadline passes or the turn is cancelled. Unless it was cancelled, the move is then
+   * played on the view executor and afterwards runs there.
+   *
+   * @param model      the game
+   * @param player     the AI whose turn it is
+   * @param afterwards what to do on the view executor once the move has been played
+   * @return the token of this turn, which cancel() or its own cancel() abandons
+   * @throws IllegalStateException if the runner has been closed
+   */
+  public SearchToken startTurn(GameModel model, AIPlayer player, Runnable afterwards) {
+    if (closed) {
+      throw new IllegalStateException("The AI turn runner has been closed.");
+    }
+    SearchToken token = SearchToken.withTimeout(budgetMillis);
+    currentTurn = token;
+    try {
+      searches.execute(() -> search(model, player, token, afterwards));
+    } catch (RejectedExecutionException e) {
+      throw new IllegalStateException("The AI turn runner has been closed.", e);
+    }
+    return token;
+  }
+
+  private void search(GameModel model, AIPlayer player, SearchToken token, Runnable afterwards) {
+    Move move;
+    try {
+      move = player.chooseMove(model, token);
+    } catch (RuntimeException e) {
+      System.out.println("AIPlayer search failed: " + e.getMessage());
+      move = null;
+    }
+    if (token.isCancelled()) {
+      return;
+    }
+    Move chosen = move;
+    viewExecutor.execute(() -> {
+      // checked again here, since the turn may have been cancelled while this was queued
+      if (!token.isCancelled()) {
+        player.playMove(model, chosen);
+        afterwards.run();
+      }
+    });
+  }
+
+  /**
+   * Abandons the turn in progress, if any. Its search stops as soon as it next checks its
+   * token, and its move is not played.
+   */
+  public void cancel() {
+    SearchToken token = currentTurn;
+    if (token != null) {
+      token.cancel();
+    }
+  }
+
+  /**
+   * Abandons the turn in progress and stops the search thread. No more turns can be started.
+   */
+  @Override
+  public void close() {
+    closed = true;
+    cancel();
+    searches.shutdownNow();
+  }
+}
@@ -0,0 +1,67 @@
+package controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.Card;
+import model.CardRegistry;
+
+/**
+ * Reads card decks from the binary format described in BinaryConfigFormat. The file is
+ * memory-mapped; the name pool is copied out once and every card is built from its fixed-size
+ * entry, so nothing is tokenized or parsed.
+ */
+public class BinaryCardFileReader implements CardFileReader {
+  @Override
+  public List<Card> readCards(File file) throws IllegalArgumentException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt() != BinaryConfigFormat.CARD_MAGIC) {
+        throw new IllegalArgumentException("Not a binary card file: " + file.getName());
+      }
+      int count = buffer.getInt();
+      int poolBytes = buffer.getInt();
+      if (count < 0 || poolBytes < 0 || buffer.remaining()
+              != (long) count * BinaryConfigFormat.CARD_ENTRY_BYTES + poolBytes) {
+        throw new IllegalArgumentException("Card file size does not match its header: "
+                + file.getName());
+      }
+
+      byte[] pool = new byte[poolBytes];
+      buffer.get(BinaryConfigFormat.CARD_HEADER_BYTES
+              + count * BinaryConfigFormat.CARD_ENTRY_BYTES, pool);
+
+      List<Card> cards = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+        int offset = buffer.getInt();
+        int length = buffer.getShort() & 0xFFFF;
+        int values = buffer.getShort() & 0xFFFF;
+        if (offset < 0 || offset > poolBytes - length) {
+          throw new IllegalArgumentException("Invalid card name at card " + (i + 1));
+        }
+        try {
+          cards.add(CardRegistry.intern(
+                  new String(pool, offset, length, StandardCharsets.UTF_8), values));
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException(e.getMessage() + " at card " + (i + 1), e);
+        }
+      }
+      return cards;
+
+    } catch (NoSuchFileException e) {
+      throw new IllegalArgumentException("Card file not found: " + file.getName(), e);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Card file is truncated: " + file.getName(), e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Could not read card file: " + file.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,33 @@
+package controller;
+
+/**
+ * Layout of the binary grid and card files. All numbers are big-endian.
+ *
+ * <p>A grid file holds the magic number {@link #GRID_MAGIC}, the number of rows and the number
+ * of columns as ints, then one bit-packed hole mask per row: (cols + 7) / 8 bytes in which bit
+ * (col % 8) of byte (col / 8) is set when that cell is a hole.
+ *
+ * <p>A card file holds the magic number {@link #CARD_MAGIC}, the number of cards and the length
+ * in bytes of the name pool as ints, then one 8-byte entry per card: the offset of its name in
+ * the pool as an int, the length of its name in bytes as a short, and its four values as a short
+ * in the layout of Card.getPackedValues(). The name pool follows the entries and holds every
+ * name in UTF-8.
+ */
+final class BinaryConfigFormat {
+  static final int GRID_MAGIC = 0x54544731; // "TTG1"
+  static final int CARD_MAGIC = 0x54544331; // "TTC1"
+  static final int GRID_HEADER_BYTES = 12;
+  static final int CARD_HEADER_BYTES = 12;
+  static final int CARD_ENTRY_BYTES = 8;
+
+  private BinaryConfigFormat() {
+    // constants and helpers only
+  }
+
+  /**
+   * Gets the number of bytes in the hole mask of one row.
+   */
+  static int maskBytes(int cols) {
+    return (cols + 7) >>> 3;
+  }
+}
@@ -0,0 +1,90 @@
+package controller;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import model.Card;
+import model.Grid;
+
+/**
+ * Writes grids and card decks in the binary format read by BinaryGridFileReader and
+ * BinaryCardFileReader, for converting a library of text configuration files once.
+ */
+public final class BinaryConfigWriter {
+
+  private BinaryConfigWriter() {
+    // static helpers only
+  }
+
+  /**
+   * Writes the holes of a grid. Any cards placed on the grid are not written.
+   *
+   * @param grid the grid
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   */
+  public static void writeGrid(Grid grid, File file) throws IOException {
+    int rows = grid.getRows();
+    int cols = grid.getCols();
+    try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(BinaryConfigFormat.GRID_MAGIC);
+      out.writeInt(rows);
+      out.writeInt(cols);
+      byte[] mask = new byte[BinaryConfigFormat.maskBytes(cols)];
+      for (int row = 0; row < rows; row++) {
+        Arrays.fill(mask, (byte) 0);
+        for (int col = 0; col < cols; col++) {
+          if (grid.getCell(row, col).isHole()) {
+            mask[col >>> 3] |= (byte) (1 << (col & 7));
+          }
+        }
+        out.write(mask);
+      }
+    }
+  }
+
+  /**
+   * Writes a deck of cards, keeping their order.
+   *
+   * @param cards the cards
+   * @param file  the file to write
+   * @throws IOException              if the file cannot be written
+   * @throws IllegalArgumentException if a card name is longer than 65535 bytes in UTF-8
+   */
+  public static void writeCards(List<Card> cards, File file) throws IOException {
+    byte[][] names = new byte[cards.size()][];
+    int poolBytes = 0;
+    for (int i = 0; i < names.length; i++) {
+      names[i] = cards.get(i).getName().getBytes(StandardCharsets.UTF_8);
+      if (names[i].length > 0xFFFF) {
+        throw new IllegalArgumentException("Card name is too long at card " + (i + 1));
+      }
+      poolBytes += names[i].length;
+    }
+
+    try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(new FileOutputStream(file)))) {
+      out.writeInt(BinaryConfigFormat.CARD_MAGIC);
+      out.writeInt(cards.size());
+      out.writeInt(poolBytes);
+      int offset = 0;
+      for (int i = 0; i < names.length; i++) {
+        Card card = cards.get(i);
+        out.writeInt(offset);
+        out.writeShort(names[i].length);
+        out.writeShort(card.getPackedValues());
+        offset += names[i].length;
+      }
+      for (byte[] name : names) {
+        out.write(name);
+      }
+    }
+  }
+}
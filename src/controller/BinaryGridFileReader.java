@@ -0,0 +1,80 @@
+package controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+
+import model.Cell;
+import model.CellImpl;
+import model.Grid;
+import model.GridFactory;
+import model.GridType;
+
+/**
+ * Reads grids from the binary format described in BinaryConfigFormat. The file is memory-mapped
+ * and each row's holes are read straight from its bit mask, so there is no text to split or
+ * characters to check.
+ */
+public class BinaryGridFileReader implements GridFileReader {
+  private final GridType gridType;
+
+  /**
+   * Constructs a reader which builds standard grids.
+   */
+  public BinaryGridFileReader() {
+    this(GridType.STANDARD);
+  }
+
+  /**
+   * Constructs a reader which builds grids of the given implementation type.
+   *
+   * @param gridType the grid implementation to create
+   */
+  public BinaryGridFileReader(GridType gridType) {
+    this.gridType = gridType;
+  }
+
+  @Override
+  public Grid readGrid(File file) throws IllegalArgumentException {
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.remaining() == 0) {
+        throw new IllegalArgumentException("Grid file is empty.");
+      }
+      if (buffer.getInt() != BinaryConfigFormat.GRID_MAGIC) {
+        throw new IllegalArgumentException("Not a binary grid file: " + file.getName());
+      }
+      int rows = buffer.getInt();
+      int cols = buffer.getInt();
+      if (rows <= 0 || cols <= 0) {
+        throw new IllegalArgumentException("Grid dimensions must be positive integers.");
+      }
+      int maskBytes = BinaryConfigFormat.maskBytes(cols);
+      if (buffer.remaining() != (long) rows * maskBytes) {
+        throw new IllegalArgumentException("Grid file has " + buffer.remaining()
+                + " bytes of rows, expected " + (long) rows * maskBytes);
+      }
+
+      Cell[][] cells = new Cell[rows][cols];
+      for (int row = 0; row < rows; row++) {
+        int rowStart = BinaryConfigFormat.GRID_HEADER_BYTES + row * maskBytes;
+        for (int col = 0; col < cols; col++) {
+          int mask = buffer.get(rowStart + (col >>> 3));
+          cells[row][col] = new CellImpl((mask & (1 << (col & 7))) != 0);
+        }
+      }
+      return GridFactory.createGrid(cells, gridType);
+
+    } catch (NoSuchFileException e) {
+      throw new IllegalArgumentException("Grid file not found: " + file.getName(), e);
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Grid file is truncated: " + file.getName(), e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Could not read grid file: " + file.getName(), e);
+    }
+  }
+}
@@ -8,11 +8,29 @@ import model.Cell;
 import model.CellImpl;
 import model.Grid;
 import model.GridFactory;
+import model.GridType;
 
 /**
  * Reads and parses grid data from a configuration file.
  */
 public class GridFileReaderImpl implements GridFileReader {
+  private final GridType gridType;
+
+  /**
+   * Constructs a reader which builds standard grids.
+   */
+  public GridFileReaderImpl() {
+    this(GridType.STANDARD);
+  }
+
+  /**
+   * Constructs a reader which builds grids of the given implementation type.
+   *
+   * @param gridType the grid implementation to create
+   */
+  public GridFileReaderImpl(GridType gridType) {
+    this.gridType = gridType;
+  }
 
   @Override
   public Grid readGrid(File file) throws IllegalArgumentException {
@@ -25,7 +43,7 @@ public class GridFileReaderImpl implements GridFileReader {
 
       Cell[][] cells = parseGridCells(scanner, rows, cols);
 
-      return GridFactory.createGrid(cells);
+      return GridFactory.createGrid(cells, gridType);
 
     } catch (FileNotFoundException e) {
       throw new IllegalArgumentException("Grid file not found: " + file.getName(), e);
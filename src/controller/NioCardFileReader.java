@@ -0,0 +1,138 @@
+package controller;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import model.Card;
+import model.CardFactory;
+import model.Value;
+
+/**
+ * Reads card configuration files in the same text format, and with the same error messages, as
+ * CardFileReaderImpl, but much faster on large decks. The file is read through a channel into
+ * one reusable buffer and each line is split into fields by scanning its bytes, so the only
+ * objects made per card are its name and the card itself.
+ * Lines end with \n, \r\n or \r, and names are decoded as UTF-8.
+ */
+public class NioCardFileReader implements CardFileReader {
+  private static final int BUFFER_BYTES = 1 << 16;
+  private static final int FIELDS = 5;
+  private static final Value[] VALUES = Value.values();
+
+  @Override
+  public List<Card> readCards(File file) throws IllegalArgumentException {
+    List<Card> cards = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+      byte[] bytes = buffer.array();
+      byte[] line = new byte[128];
+      int length = 0;
+      int lineNumber = 0;
+      boolean afterReturn = false;
+      int[] fields = new int[2 * FIELDS];
+      while (channel.read(buffer) >= 0) {
+        int limit = buffer.position();
+        for (int i = 0; i < limit; i++) {
+          byte b = bytes[i];
+          if (b == '\n' && afterReturn) {
+            afterReturn = false; // second half of \r\n
+            continue;
+          }
+          afterReturn = b == '\r';
+          if (b == '\n' || b == '\r') {
+            parseLine(line, length, ++lineNumber, fields, cards);
+            length = 0;
+          } else {
+            if (length == line.length) {
+              line = Arrays.copyOf(line, length * 2);
+            }
+            line[length++] = b;
+          }
+        }
+        buffer.clear();
+      }
+      if (length > 0) {
+        parseLine(line, length, ++lineNumber, fields, cards);
+      }
+    } catch (NoSuchFileException e) {
+      throw new IllegalArgumentException("Card file not found: " + file.getName(), e);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Could not read card file: " + file.getName(), e);
+    }
+    return cards;
+  }
+
+  /**
+   * Parses one line, ignoring it if it is blank. Like String.trim(), any control character or
+   * space at either end is dropped; like split("\\s+"), fields are separated by runs of spaces,
+   * tabs, form feeds, vertical tabs and carriage returns. The start and end of each field go in
+   * the given array, in pairs.
+   */
+  private void parseLine(byte[] line, int length, int lineNumber, int[] fields,
+                         List<Card> cards) {
+    int start = 0;
+    int end = length;
+    while (start < end && (line[start] & 0xFF) <= ' ') {
+      start++;
+    }
+    while (end > start && (line[end - 1] & 0xFF) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return;
+    }
+
+    int fieldCount = 0;
+    int i = start;
+    while (i < end) {
+      int fieldStart = i;
+      while (i < end && !isWhitespace(line[i])) {
+        i++;
+      }
+      if (fieldCount < FIELDS) {
+        fields[2 * fieldCount] = fieldStart;
+        fields[2 * fieldCount + 1] = i;
+      }
+      fieldCount++;
+      while (i < end && isWhitespace(line[i])) {
+        i++;
+      }
+    }
+    if (fieldCount != FIELDS) {
+      throw new IllegalArgumentException("Invalid card format at line " + lineNumber + ": "
+              + new String(line, start, end - start, StandardCharsets.UTF_8));
+    }
+
+    String name = new String(line, fields[0], fields[1] - fields[0], StandardCharsets.UTF_8);
+    Value north = parseValue(line, fields[2], fields[3]);
+    Value south = parseValue(line, fields[4], fields[5]);
+    Value east = parseValue(line, fields[6], fields[7]);
+    Value west = parseValue(line, fields[8], fields[9]);
+    cards.add(CardFactory.createCard(name, north, south, east, west));
+  }
+
+  private static boolean isWhitespace(byte b) {
+    return b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r';
+  }
+
+  private static Value parseValue(byte[] line, int start, int end) {
+    if (end - start == 1) {
+      byte b = line[start];
+      if (b >= '1' && b <= '9') {
+        return VALUES[b - '1'];
+      } else if (b == 'A') {
+        return Value.A;
+      }
+    }
+    throw new IllegalArgumentException("Invalid card value: "
+            + new String(line, start, end - start, StandardCharsets.UTF_8));
+  }
+}
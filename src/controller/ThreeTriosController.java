@@ -5,11 +5,11 @@ import java.awt.event.ActionEvent;
 
 import model.AIPlayer;
 import model.Card;
+import model.CardFactory;
 import model.GameModel;
 import model.Player;
 import model.PlayerAction;
 import model.PlayerImpl;
-import model.StandardCard;
 import model.Value;
 import provider.model.GameCard;
 import view.ThreeTriosViewInterface;
@@ -26,6 +26,7 @@ public class ThreeTriosController implements Features, GameController,
   private final ThreeTriosViewInterface otherView;
   private Card selectedCard;
   private final PlayerAction opponentPlayerAction;
+  private final AiTurnRunner aiTurns;
 
 
   /**
@@ -40,12 +41,31 @@ public class ThreeTriosController implements Features, GameController,
   public ThreeTriosController(GameModel model, PlayerAction playerAction, Player playerModel,
                               ThreeTriosViewInterface ownView, ThreeTriosViewInterface otherView,
                               PlayerAction opponentPlayerAction) {
+    this(model, playerAction, playerModel, ownView, otherView, opponentPlayerAction, null);
+  }
+
+  /**
+   * Constructs a controller for a player whose AI opponent takes its turns through the given
+   * runner, off the thread that calls this controller.
+   *
+   * @param model        the shared game model
+   * @param playerAction the player's action interface (could be human or AI)
+   * @param playerModel  the player in the model
+   * @param ownView      the view associated with this player
+   * @param otherView    the view of the other player
+   * @param opponentPlayerAction the other player's action interface
+   * @param aiTurns      runs the opponent's AI turns, or null to run them inline
+   */
+  public ThreeTriosController(GameModel model, PlayerAction playerAction, Player playerModel,
+                              ThreeTriosViewInterface ownView, ThreeTriosViewInterface otherView,
+                              PlayerAction opponentPlayerAction, AiTurnRunner aiTurns) {
     this.model = model;
     this.playerAction = playerAction;
     this.playerModel = playerModel;
     this.ownView = ownView;
     this.otherView = otherView;
     this.opponentPlayerAction = opponentPlayerAction;
+    this.aiTurns = aiTurns;
 
 
     this.ownView.addFeatures(this);
@@ -97,13 +117,11 @@ public class ThreeTriosController implements Features, GameController,
       Player currentPlayer = model.getCurrentPlayer();
       if (opponentPlayerAction instanceof AIPlayer &&
               currentPlayer.equals(model.getPlayerBlue())) {
-        opponentPlayerAction.takeTurn(model);
-        model.switchTurn();
-        ownView.updateView();
-        otherView.updateView();
-        if (model.isGameOver()) {
-          ownView.showGameOverMessage(model.getWinner());
-          otherView.showGameOverMessage(model.getWinner());
+        if (aiTurns != null) {
+          aiTurns.startTurn(model, (AIPlayer) opponentPlayerAction, this::finishOpponentTurn);
+        } else {
+          opponentPlayerAction.takeTurn(model);
+          finishOpponentTurn();
         }
       }
     } catch (IllegalArgumentException e) {
@@ -113,6 +131,16 @@ public class ThreeTriosController implements Features, GameController,
     }
   }
 
+  private void finishOpponentTurn() {
+    model.switchTurn();
+    ownView.updateView();
+    otherView.updateView();
+    if (model.isGameOver()) {
+      ownView.showGameOverMessage(model.getWinner());
+      otherView.showGameOverMessage(model.getWinner());
+    }
+  }
+
   private void notifyNextPlayer() {
     Player currentPlayer = model.getCurrentPlayer();
     if (currentPlayer.equals(playerModel)) {
@@ -153,7 +181,7 @@ public class ThreeTriosController implements Features, GameController,
     model.Value east = adaptValue(gameCard.east());
     model.Value west = adaptValue(gameCard.west());
     String name = gameCard.toString();
-    return new StandardCard(name, north, south, east, west);
+    return CardFactory.createCard(name, north, south, east, west);
   }
 
   private model.Value adaptValue(int value) {
@@ -5,14 +5,21 @@ import java.util.List;
 
 import controller.Features;
 import strategy.MoveStrategy;
+import strategy.SearchStats;
+import strategy.SearchToken;
 
 /**
  * Class representing the AI player which makes moves based on the strategy given.
+ * Given a turn budget, takeTurn() gives the strategy that long to choose each move. The search
+ * statistics of every move chosen are kept, for strategies that report them.
  */
 public class AIPlayer implements Player, PlayerAction {
   private final String color;
   private final List<Card> hand;
   private final MoveStrategy strategy;
+  // 0 for no limit
+  private final long turnMillis;
+  private final List<SearchStats> searchStats = new ArrayList<>();
 
   /**
    * Constructor for the AIPlayer object.
@@ -24,6 +31,27 @@ public class AIPlayer implements Player, PlayerAction {
     this.color = color;
     this.hand = new ArrayList<>();
     this.strategy = strategy;
+    this.turnMillis = 0;
+  }
+
+  /**
+   * Constructor for an AIPlayer whose strategy gets a fixed time to choose each move in
+   * takeTurn(). Strategies that deepen their search, such as MinimaxStrategy.withTimeBudget(),
+   * return the best move of the deepest search they completed in that time.
+   *
+   * @param color      Color of the AIPLayer.
+   * @param strategy   strategy that the AIPLayer is using.
+   * @param turnMillis how long each move may take, in milliseconds
+   * @throws IllegalArgumentException if turnMillis is not positive
+   */
+  public AIPlayer(String color, MoveStrategy strategy, long turnMillis) {
+    if (turnMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive.");
+    }
+    this.color = color;
+    this.hand = new ArrayList<>();
+    this.strategy = strategy;
+    this.turnMillis = turnMillis;
   }
 
   @Override
@@ -31,6 +59,11 @@ public class AIPlayer implements Player, PlayerAction {
     hand.add(card);
   }
 
+  @Override
+  public void addCardToHand(int index, Card card) {
+    hand.add(index, card);
+  }
+
   @Override
   public void removeCardFromHand(Card card) {
     hand.remove(card);
@@ -41,6 +74,16 @@ public class AIPlayer implements Player, PlayerAction {
     return new ArrayList<>(hand);
   }
 
+  @Override
+  public int getHandSize() {
+    return hand.size();
+  }
+
+  @Override
+  public Card getCardInHand(int index) {
+    return hand.get(index);
+  }
+
   @Override
   public String getColor() {
     return color;
@@ -58,7 +101,51 @@ public class AIPlayer implements Player, PlayerAction {
 
   @Override
   public void takeTurn(GameModel model) {
-    Move move = strategy.determineMove(model, this);
+    SearchToken token = turnMillis == 0 ? SearchToken.none()
+            : SearchToken.withTimeout(turnMillis);
+    playMove(model, chooseMove(model, token));
+  }
+
+  /**
+   * Asks the strategy for a move without playing it, so that the search can run on another
+   * thread and the move be played later with playMove().
+   *
+   * @param model the game
+   * @param token says when the strategy has to stop searching
+   * @return the chosen move, or null if there is none
+   */
+  public Move chooseMove(ReadOnlyGameModel model, SearchToken token) {
+    Move move = strategy.determineMove(model, this, token);
+    SearchStats stats = strategy.getLastSearchStats();
+    if (stats != null) {
+      synchronized (searchStats) {
+        searchStats.add(stats);
+      }
+    }
+    return move;
+  }
+
+  /**
+   * Gets the search statistics of every move chosen so far, in order, including how deep the
+   * search went and how many positions it visited. Moves chosen by strategies that report no
+   * statistics are left out.
+   *
+   * @return a copy of the statistics
+   */
+  public List<SearchStats> getSearchStats() {
+    synchronized (searchStats) {
+      return List.copyOf(searchStats);
+    }
+  }
+
+  /**
+   * Plays a move chosen by chooseMove(). An invalid or missing move is reported and skipped,
+   * as takeTurn() has always done.
+   *
+   * @param model the game
+   * @param move  the move to play, or null if there was none
+   */
+  public void playMove(GameModel model, Move move) {
     if (move != null) {
       try {
         model.placeCard(this, move.getCard(), move.getRow(), move.getCol());
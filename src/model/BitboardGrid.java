@@ -0,0 +1,295 @@
+package model;
+
+/**
+ * Implementation of the Grid interface which packs the state of the grid into bitmasks.
+ * Bit i of each mask refers to the cell at row (i / cols) and column (i % cols). Holes,
+ * occupied cells and ownership are stored as arrays of longs, and the cards themselves are
+ * kept in a flat array indexed the same way. Counting cells and checking whether the grid is
+ * full become popcounts and mask tests rather than walks over every cell.
+ * Class Invariant: a cell is never both a hole and occupied, and at most two distinct players
+ * own cards on the grid.
+ */
+public class BitboardGrid implements Grid {
+  private final int rows;
+  private final int cols;
+  private final int cardCellCount;
+  private final long[] holes;
+  private final long[] occupied;
+  // a set bit means the cell is owned by ownerSlots[1], a clear bit by ownerSlots[0]
+  private final long[] owners;
+  private final Card[] cards;
+  private final Player[] ownerSlots;
+  private final Cell[] cellViews;
+
+  /**
+   * Constructor for the grid, copying holes and any cards already placed on the given cells.
+   *
+   * @param cells Given 2D array used to describe the grid
+   */
+  public BitboardGrid(Cell[][] cells) {
+    this.rows = cells.length;
+    this.cols = cells[0].length;
+    int size = rows * cols;
+    int words = (size + 63) >>> 6;
+    this.holes = new long[words];
+    this.occupied = new long[words];
+    this.owners = new long[words];
+    this.cards = new Card[size];
+    this.ownerSlots = new Player[2];
+    this.cellViews = new Cell[size];
+
+    int holeCount = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        Cell cell = cells[row][col];
+        int index = row * cols + col;
+        if (cell.isHole()) {
+          holes[index >>> 6] |= 1L << index;
+          holeCount++;
+        } else if (cell.isOccupied()) {
+          put(index, cell.getCard(), cell.getOwner());
+        }
+      }
+    }
+    this.cardCellCount = size - holeCount;
+  }
+
+  private BitboardGrid(BitboardGrid other) {
+    this.rows = other.rows;
+    this.cols = other.cols;
+    this.cardCellCount = other.cardCellCount;
+    this.holes = other.holes.clone();
+    this.occupied = other.occupied.clone();
+    this.owners = other.owners.clone();
+    this.cards = other.cards.clone();
+    this.ownerSlots = other.ownerSlots.clone();
+    this.cellViews = new Cell[other.cellViews.length];
+  }
+
+  /**
+   * Creates an independent copy of this grid. Cards and players are shared, but placing
+   * cards or changing owners on the copy has no effect on this grid.
+   *
+   * @return a copy of this grid
+   */
+  public BitboardGrid copy() {
+    return new BitboardGrid(this);
+  }
+
+  @Override
+  public boolean isPlayable(int row, int col) {
+    if (!isWithinBounds(row, col)) {
+      throw new IllegalArgumentException("Invalid indexes");
+    }
+    int index = row * cols + col;
+    return !isSet(holes, index) && !isSet(occupied, index);
+  }
+
+  @Override
+  public Cell getCell(int row, int col) {
+    if (!isWithinBounds(row, col)) {
+      throw new IllegalArgumentException("Position out of bounds.");
+    }
+    int index = row * cols + col;
+    Cell view = cellViews[index];
+    if (view == null) {
+      view = new BitboardCell(index);
+      cellViews[index] = view;
+    }
+    return view;
+  }
+
+  @Override
+  public CellType getCellType(int row, int col) {
+    if (!isWithinBounds(row, col)) {
+      throw new IllegalArgumentException("Position out of bounds.");
+    }
+    return isSet(holes, row * cols + col) ? CellType.HOLE : CellType.CARD_CELL;
+  }
+
+  @Override
+  public void placeCard(Card card, int row, int col, Player owner) {
+    if (!isWithinBounds(row, col)) {
+      throw new IllegalArgumentException("Position out of bounds.");
+    }
+    int index = row * cols + col;
+    if (isSet(holes, index)) {
+      throw new IllegalArgumentException("Cannot place a card in a hole.");
+    }
+    if (isSet(occupied, index)) {
+      throw new IllegalArgumentException("Cell is already occupied.");
+    }
+    put(index, card, owner);
+  }
+
+  @Override
+  public void removeCard(int row, int col) {
+    if (!isWithinBounds(row, col)) {
+      throw new IllegalArgumentException("Position out of bounds.");
+    }
+    int index = row * cols + col;
+    if (!isSet(occupied, index)) {
+      throw new IllegalArgumentException("Cell is not occupied.");
+    }
+    clear(index);
+  }
+
+  @Override
+  public int getCols() {
+    return this.cols;
+  }
+
+  @Override
+  public int getRows() {
+    return this.rows;
+  }
+
+  @Override
+  public int getNumberOfCardCells() {
+    return this.cardCellCount;
+  }
+
+  @Override
+  public boolean isFull() {
+    int size = rows * cols;
+    for (int word = 0; word < occupied.length; word++) {
+      int bitsInWord = Math.min(64, size - (word << 6));
+      long wordMask = bitsInWord == 64 ? -1L : (1L << bitsInWord) - 1;
+      if ((occupied[word] | holes[word]) != wordMask) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public boolean isWithinBounds(int row, int col) {
+    return row >= 0 && row < rows && col >= 0 && col < cols;
+  }
+
+  @Override
+  public int getOwnedCellCount(Player owner) {
+    int slot = slotOf(owner);
+    if (slot < 0) {
+      return 0;
+    }
+    int count = 0;
+    for (int word = 0; word < occupied.length; word++) {
+      long ownedBy = slot == 1 ? owners[word] : ~owners[word];
+      count += Long.bitCount(occupied[word] & ownedBy);
+    }
+    return count;
+  }
+
+  private void put(int index, Card card, Player owner) {
+    cards[index] = card;
+    occupied[index >>> 6] |= 1L << index;
+    setOwnerBit(index, owner);
+  }
+
+  private void clear(int index) {
+    cards[index] = null;
+    occupied[index >>> 6] &= ~(1L << index);
+    owners[index >>> 6] &= ~(1L << index);
+  }
+
+  private void setOwnerBit(int index, Player owner) {
+    if (slotFor(owner) == 1) {
+      owners[index >>> 6] |= 1L << index;
+    } else {
+      owners[index >>> 6] &= ~(1L << index);
+    }
+  }
+
+  private static boolean isSet(long[] mask, int index) {
+    return (mask[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private int slotOf(Player owner) {
+    for (int slot = 0; slot < ownerSlots.length; slot++) {
+      if (ownerSlots[slot] != null && ownerSlots[slot].equals(owner)) {
+        return slot;
+      }
+    }
+    return -1;
+  }
+
+  private int slotFor(Player owner) {
+    if (owner == null) {
+      throw new IllegalArgumentException("Owner cannot be null.");
+    }
+    int slot = slotOf(owner);
+    if (slot >= 0) {
+      return slot;
+    }
+    for (slot = 0; slot < ownerSlots.length; slot++) {
+      if (ownerSlots[slot] == null) {
+        ownerSlots[slot] = owner;
+        return slot;
+      }
+    }
+    throw new IllegalArgumentException("Grid already holds cards for two other players.");
+  }
+
+  /**
+   * Cell view over a single bit position of the enclosing grid. Reads and writes go straight
+   * through to the grid's masks, so the view never goes out of date.
+   */
+  private final class BitboardCell implements Cell {
+    private final int index;
+
+    BitboardCell(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public boolean isOccupied() {
+      return isSet(occupied, index);
+    }
+
+    @Override
+    public void placeCard(Card card, Player owner) {
+      if (isHole()) {
+        throw new IllegalStateException("Cannot place a card in a hole.");
+      }
+      if (isOccupied()) {
+        throw new IllegalStateException("Cell is already occupied.");
+      }
+      put(index, card, owner);
+    }
+
+    @Override
+    public boolean isHole() {
+      return isSet(holes, index);
+    }
+
+    @Override
+    public Player getOwner() {
+      if (!isOccupied()) {
+        return null;
+      }
+      return isSet(owners, index) ? ownerSlots[1] : ownerSlots[0];
+    }
+
+    @Override
+    public Card getCard() {
+      return cards[index];
+    }
+
+    @Override
+    public void setOwner(Player owner) {
+      if (!isOccupied()) {
+        throw new IllegalStateException("Cannot set owner on an unoccupied cell.");
+      }
+      setOwnerBit(index, owner);
+    }
+
+    @Override
+    public void removeCard() {
+      if (!isOccupied()) {
+        throw new IllegalStateException("Cannot remove a card from an unoccupied cell.");
+      }
+      clear(index);
+    }
+  }
+}
@@ -24,4 +24,28 @@ public interface Card {
   Value getEastValue();
 
   Value getWestValue();
+
+  /**
+   * Gets the four values of this card packed into 16 bits: north in bits 12-15, south in bits
+   * 8-11, east in bits 4-7 and west in bits 0-3, each holding 1 to 10.
+   *
+   * @return the packed values
+   */
+  default int getPackedValues() {
+    return pack(getNorthValue(), getSouthValue(), getEastValue(), getWestValue());
+  }
+
+  /**
+   * Packs four values in the layout used by getPackedValues().
+   *
+   * @param north north value
+   * @param south south value
+   * @param east  east value
+   * @param west  west value
+   * @return the packed values
+   */
+  static int pack(Value north, Value south, Value east, Value west) {
+    return north.getIntValue() << 12 | south.getIntValue() << 8 | east.getIntValue() << 4
+            | west.getIntValue();
+  }
 }
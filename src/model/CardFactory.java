@@ -6,17 +6,18 @@ package model;
 public class CardFactory {
 
   /**
-   * Creates a standard card with given name and values.
+   * Gets the standard card with given name and values. Cards are interned by CardRegistry, so
+   * every call with the same arguments returns the same instance.
    *
    * @param name  the card's name.
    * @param north value on the north side.
    * @param south value on the south side.
    * @param east  value on the east side.
    * @param west  value on the west side.
-   * @return a new Card instance.
+   * @return the shared Card instance.
    */
   public static Card createCard(String name, Value north, Value south, Value east, Value west) {
-    return new StandardCard(name, north, south, east, west);
+    return CardRegistry.intern(name, north, south, east, west);
   }
 }
 
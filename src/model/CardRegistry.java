@@ -0,0 +1,89 @@
+package model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps one shared instance of every distinct card, so that cards with the same name and values
+ * read from different files, or rebuilt from the provider's GameCards, are the very same object.
+ * Cards are immutable, so sharing them between hands, grids and games is safe, and a card
+ * rebuilt by an adapter is found in a hand by identity. The registry is safe to use from any
+ * thread and holds on to every card it has handed out.
+ */
+public final class CardRegistry {
+  private static final ConcurrentMap<Key, Card> CARDS = new ConcurrentHashMap<>();
+
+  private CardRegistry() {
+    // static registry only
+  }
+
+  /**
+   * Gets the shared card with the given name and values, creating it the first time.
+   *
+   * @param name  name of the card
+   * @param north north value
+   * @param south south value
+   * @param east  east value
+   * @param west  west value
+   * @return the shared card
+   */
+  public static Card intern(String name, Value north, Value south, Value east, Value west) {
+    return intern(name, Card.pack(north, south, east, west));
+  }
+
+  /**
+   * Gets the shared card with the given name and packed values, creating it the first time.
+   *
+   * @param name         name of the card
+   * @param packedValues the four values in the layout of Card.getPackedValues()
+   * @return the shared card
+   * @throws IllegalArgumentException if a packed value is not between 1 and 10, or bits above
+   *                                  the lowest 16 are set
+   */
+  public static Card intern(String name, int packedValues) {
+    if (packedValues >>> 16 != 0) {
+      throw new IllegalArgumentException("Invalid packed card values: " + packedValues);
+    }
+    for (int shift = 12; shift >= 0; shift -= 4) {
+      int value = (packedValues >>> shift) & 0xF;
+      if (value < 1 || value > 10) {
+        throw new IllegalArgumentException("Invalid card value: " + value);
+      }
+    }
+    return CARDS.computeIfAbsent(new Key(name, packedValues),
+        key -> new StandardCard(key.name, key.packedValues));
+  }
+
+  /**
+   * Gets the number of distinct cards interned so far.
+   *
+   * @return the number of cards in the registry
+   */
+  public static int size() {
+    return CARDS.size();
+  }
+
+  private static final class Key {
+    private final String name;
+    private final int packedValues;
+
+    Key(String name, int packedValues) {
+      this.name = name;
+      this.packedValues = packedValues;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return packedValues == key.packedValues && name.equals(key.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * name.hashCode() + packedValues;
+    }
+  }
+}
@@ -47,5 +47,10 @@ public interface Cell {
    * @param owner the new owner to own the cell
    */
   void setOwner(Player owner);
+
+  /**
+   * Removes the card from the cell, leaving it empty.
+   */
+  void removeCard();
 }
 
@@ -57,4 +57,13 @@ public class CellImpl implements Cell {
     this.owner = owner;
   }
 
+  @Override
+  public void removeCard() {
+    if (!isOccupied()) {
+      throw new IllegalStateException("Cannot remove a card from an unoccupied cell.");
+    }
+    this.card = null;
+    this.owner = null;
+  }
+
 }
@@ -0,0 +1,305 @@
+package model;
+
+import java.util.List;
+
+/**
+ * An immutable snapshot of a game: the cards and owners on the grid, both hands, and whose turn
+ * it is. ThreeTriosGameModel publishes a new snapshot after every change, so any thread can read
+ * one consistent position without locking the game, however the game moves on afterwards.
+ * Successive snapshots share every grid row and hand that did not change between them; taking
+ * one copies only the rows that gained a card or had a card flipped.
+ * The players are referenced for their identity and color only. Their hands are read from the
+ * snapshot, never from the players themselves, which keep changing.
+ */
+public final class GameState {
+  private final int rows;
+  private final int cols;
+  private final int cardCellCount;
+  // never changes during a game, so every snapshot of a game shares it
+  private final boolean[][] holes;
+  private final Card[][] cards;
+  private final Player[][] owners;
+  private final Player playerRed;
+  private final Player playerBlue;
+  private final Player currentPlayer;
+  private final List<Card> redHand;
+  private final List<Card> blueHand;
+  private final int redCells;
+  private final int blueCells;
+  private final long version;
+
+  private GameState(GameState previous, Card[][] cards, Player[][] owners, Player currentPlayer,
+                    List<Card> redHand, List<Card> blueHand, int redCells, int blueCells) {
+    this.rows = previous.rows;
+    this.cols = previous.cols;
+    this.cardCellCount = previous.cardCellCount;
+    this.holes = previous.holes;
+    this.cards = cards;
+    this.owners = owners;
+    this.playerRed = previous.playerRed;
+    this.playerBlue = previous.playerBlue;
+    this.currentPlayer = currentPlayer;
+    this.redHand = redHand;
+    this.blueHand = blueHand;
+    this.redCells = redCells;
+    this.blueCells = blueCells;
+    this.version = previous.version + 1;
+  }
+
+  private GameState(Grid grid, Player playerRed, Player playerBlue, Player currentPlayer) {
+    this.rows = grid.getRows();
+    this.cols = grid.getCols();
+    this.cardCellCount = grid.getNumberOfCardCells();
+    this.holes = new boolean[rows][cols];
+    this.cards = new Card[rows][];
+    this.owners = new Player[rows][];
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        holes[row][col] = grid.getCell(row, col).isHole();
+      }
+      cards[row] = cardRow(grid, row);
+      owners[row] = ownerRow(grid, row);
+    }
+    this.playerRed = playerRed;
+    this.playerBlue = playerBlue;
+    this.currentPlayer = currentPlayer;
+    this.redHand = handOf(playerRed);
+    this.blueHand = handOf(playerBlue);
+    this.redCells = grid.getOwnedCellCount(playerRed);
+    this.blueCells = grid.getOwnedCellCount(playerBlue);
+    this.version = 0;
+  }
+
+  /**
+   * Takes a full snapshot of the given game, reading every cell of the grid.
+   *
+   * @param grid          the grid
+   * @param playerRed     the Red player
+   * @param playerBlue    the Blue player
+   * @param currentPlayer the player whose turn it is
+   * @return the snapshot
+   */
+  static GameState of(Grid grid, Player playerRed, Player playerBlue, Player currentPlayer) {
+    return new GameState(grid, playerRed, playerBlue, currentPlayer);
+  }
+
+  /**
+   * Takes the snapshot that follows this one. Only the listed rows are read back from the grid
+   * and only the hands marked as changed are copied; everything else is shared with this
+   * snapshot.
+   *
+   * @param grid             the grid this snapshot was taken from, after the change
+   * @param changedRows      the rows which may have changed since this snapshot
+   * @param changedRowCount  how many entries of changedRows are in use
+   * @param currentPlayer    the player whose turn it now is
+   * @param redHandChanged   whether the Red hand may have changed
+   * @param blueHandChanged  whether the Blue hand may have changed
+   * @param redCells         the number of cells Red now owns
+   * @param blueCells        the number of cells Blue now owns
+   * @return the next snapshot
+   */
+  GameState next(Grid grid, int[] changedRows, int changedRowCount, Player currentPlayer,
+                 boolean redHandChanged, boolean blueHandChanged, int redCells, int blueCells) {
+    Card[][] nextCards = cards;
+    Player[][] nextOwners = owners;
+    if (changedRowCount > 0) {
+      nextCards = cards.clone();
+      nextOwners = owners.clone();
+      for (int i = 0; i < changedRowCount; i++) {
+        int row = changedRows[i];
+        nextCards[row] = cardRow(grid, row);
+        nextOwners[row] = ownerRow(grid, row);
+      }
+    }
+    return new GameState(this, nextCards, nextOwners, currentPlayer,
+            redHandChanged ? handOf(playerRed) : redHand,
+            blueHandChanged ? handOf(playerBlue) : blueHand,
+            redCells, blueCells);
+  }
+
+  private static Card[] cardRow(Grid grid, int row) {
+    Card[] result = new Card[grid.getCols()];
+    for (int col = 0; col < result.length; col++) {
+      Cell cell = grid.getCell(row, col);
+      result[col] = cell.isOccupied() ? cell.getCard() : null;
+    }
+    return result;
+  }
+
+  private static Player[] ownerRow(Grid grid, int row) {
+    Player[] result = new Player[grid.getCols()];
+    for (int col = 0; col < result.length; col++) {
+      Cell cell = grid.getCell(row, col);
+      result[col] = cell.isOccupied() ? cell.getOwner() : null;
+    }
+    return result;
+  }
+
+  private static List<Card> handOf(Player player) {
+    return List.copyOf(player.getHand());
+  }
+
+  /**
+   * Gets the number of rows of the grid.
+   *
+   * @return the number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of the grid.
+   *
+   * @return the number of columns
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Checks whether the given cell is a hole.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return true if the cell is a hole
+   * @throws IllegalArgumentException if the cell is outside the grid
+   */
+  public boolean isHole(int row, int col) {
+    checkBounds(row, col);
+    return holes[row][col];
+  }
+
+  /**
+   * Checks whether a card was on the given cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return true if the cell held a card
+   * @throws IllegalArgumentException if the cell is outside the grid
+   */
+  public boolean isOccupied(int row, int col) {
+    checkBounds(row, col);
+    return cards[row][col] != null;
+  }
+
+  /**
+   * Gets the card on the given cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the card, or null if the cell was empty or a hole
+   * @throws IllegalArgumentException if the cell is outside the grid
+   */
+  public Card getCardAt(int row, int col) {
+    checkBounds(row, col);
+    return cards[row][col];
+  }
+
+  /**
+   * Gets the owner of the card on the given cell.
+   *
+   * @param row the row of the cell
+   * @param col the column of the cell
+   * @return the owner, or null if the cell was empty or a hole
+   * @throws IllegalArgumentException if the cell is outside the grid
+   */
+  public Player getOwnerAt(int row, int col) {
+    checkBounds(row, col);
+    return owners[row][col];
+  }
+
+  /**
+   * Gets the Red player.
+   *
+   * @return the Red player
+   */
+  public Player getPlayerRed() {
+    return playerRed;
+  }
+
+  /**
+   * Gets the Blue player.
+   *
+   * @return the Blue player
+   */
+  public Player getPlayerBlue() {
+    return playerBlue;
+  }
+
+  /**
+   * Gets the player whose turn it was.
+   *
+   * @return the current player
+   */
+  public Player getCurrentPlayer() {
+    return currentPlayer;
+  }
+
+  /**
+   * Gets the cards the given player held, in hand order.
+   *
+   * @param player the Red or Blue player
+   * @return an unmodifiable list of the player's cards
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public List<Card> getHand(Player player) {
+    return isRed(player) ? redHand : blueHand;
+  }
+
+  /**
+   * Gets the number of cells on the grid the given player owned.
+   *
+   * @param player the Red or Blue player
+   * @return the number of cells the player owned
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public int getOwnedCellCount(Player player) {
+    return isRed(player) ? redCells : blueCells;
+  }
+
+  /**
+   * Gets the given player's score: the cards in their hand plus the cells they own.
+   *
+   * @param player the Red or Blue player
+   * @return the player's score
+   * @throws IllegalArgumentException if the player is not in this game
+   */
+  public int getPlayerScore(Player player) {
+    return getHand(player).size() + getOwnedCellCount(player);
+  }
+
+  /**
+   * Checks whether every card cell of the grid was filled.
+   *
+   * @return true if the game was over
+   */
+  public boolean isGameOver() {
+    return redCells + blueCells == cardCellCount;
+  }
+
+  /**
+   * Gets the number of snapshots the model published before this one since the game was set up.
+   * Of two snapshots of the same game, the one with the higher version was published later.
+   *
+   * @return the version of this snapshot
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  private boolean isRed(Player player) {
+    if (player != null && player.equals(playerRed)) {
+      return true;
+    } else if (player != null && player.equals(playerBlue)) {
+      return false;
+    }
+    throw new IllegalArgumentException("Player is not in this game.");
+  }
+
+  private void checkBounds(int row, int col) {
+    if (row < 0 || row >= rows || col < 0 || col >= cols) {
+      throw new IllegalArgumentException("Position out of bounds.");
+    }
+  }
+}
@@ -37,6 +37,15 @@ public interface Grid {
    */
   void placeCard(Card card, int row, int col, Player owner);
 
+  /**
+   * Removes the card at the specified location, leaving the cell empty. Used to take back a
+   * move.
+   *
+   * @param row the row index of the card to remove.
+   * @param col the column index of the card to remove.
+   */
+  void removeCard(int row, int col);
+
   CellType getCellType(int row, int col);
 
   /**
@@ -73,4 +82,11 @@ public interface Grid {
    */
   boolean isWithinBounds(int row, int col);
 
+  /**
+   * Counts the occupied cells on the grid owned by the given player.
+   * @param owner the player whose cells are counted
+   * @return the number of cells owned by that player
+   */
+  int getOwnedCellCount(Player owner);
+
 }
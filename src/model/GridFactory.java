@@ -5,7 +5,22 @@ package model;
  */
 public class GridFactory {
   public static Grid createGrid(Cell[][] cells) {
-    return new StandardGrid(cells);
+    return createGrid(cells, GridType.STANDARD);
   }
-}
 
+  /**
+   * Creates a grid backed by the given implementation type.
+   *
+   * @param cells 2D array of cells describing holes, card cells and any placed cards
+   * @param type  the grid implementation to use
+   * @return the grid
+   */
+  public static Grid createGrid(Cell[][] cells, GridType type) {
+    if (type == GridType.STANDARD) {
+      return new StandardGrid(cells);
+    } else if (type == GridType.BITBOARD) {
+      return new BitboardGrid(cells);
+    }
+    throw new IllegalArgumentException("Invalid grid type: " + type);
+  }
+}
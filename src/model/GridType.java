@@ -0,0 +1,10 @@
+package model;
+
+/**
+ * Enum representing the different grid implementations available to the game.
+ * STANDARD stores a 2D array of cells, BITBOARD packs the grid state into bitmasks.
+ */
+public enum GridType {
+  STANDARD,
+  BITBOARD
+}
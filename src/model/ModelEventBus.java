@@ -0,0 +1,113 @@
+package model;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the model's events to its ModelStatusListeners. Every listener has its own queue,
+ * drained by one task at a time on the listener's executor, so each listener sees events in
+ * order while a slow listener only ever delays its own events, never the move that raised them
+ * or the other listeners. Publishing is a queue append per listener, and does nothing at all
+ * when there are no listeners.
+ */
+final class ModelEventBus {
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  // shared by the listeners that do not bring their own executor; idle threads time out
+  private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(
+      runnable -> {
+        Thread thread = new Thread(runnable, "model-events-" + THREAD_COUNT.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+  /**
+   * Adds a listener whose events are delivered on the given executor.
+   */
+  void add(ModelStatusListener listener, Executor executor) {
+    if (listener == null || executor == null) {
+      throw new IllegalArgumentException("Listener and executor cannot be null.");
+    }
+    subscribers.add(new Subscriber(listener, executor));
+  }
+
+  /**
+   * Adds a listener whose events are delivered on the bus's own daemon threads.
+   */
+  void add(ModelStatusListener listener) {
+    add(listener, DEFAULT_EXECUTOR);
+  }
+
+  /**
+   * Removes a listener. Events already queued for it are still delivered.
+   */
+  boolean remove(ModelStatusListener listener) {
+    for (Subscriber subscriber : subscribers) {
+      if (subscriber.listener == listener) {
+        return subscribers.remove(subscriber);
+      }
+    }
+    return false;
+  }
+
+  boolean hasListeners() {
+    return !subscribers.isEmpty();
+  }
+
+  /**
+   * Queues an event for every listener.
+   */
+  void publish(Consumer<ModelStatusListener> event) {
+    for (Subscriber subscriber : subscribers) {
+      subscriber.offer(event);
+    }
+  }
+
+  private static final class Subscriber implements Runnable {
+    private final ModelStatusListener listener;
+    private final Executor executor;
+    private final Queue<Consumer<ModelStatusListener>> events = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    Subscriber(ModelStatusListener listener, Executor executor) {
+      this.listener = listener;
+      this.executor = executor;
+    }
+
+    void offer(Consumer<ModelStatusListener> event) {
+      events.add(event);
+      if (scheduled.compareAndSet(false, true)) {
+        executor.execute(this);
+      }
+    }
+
+    /**
+     * Delivers queued events until the queue is empty. An event queued while the flag is being
+     * cleared schedules a new run, or is picked up by the re-check here.
+     */
+    @Override
+    public void run() {
+      do {
+        Consumer<ModelStatusListener> event;
+        while ((event = events.poll()) != null) {
+          try {
+            event.accept(listener);
+          } catch (RuntimeException e) {
+            // one failing event must not stop this listener's later events
+            System.err.println("Model listener failed: " + e);
+          }
+        }
+        scheduled.set(false);
+      } while (!events.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+  }
+}
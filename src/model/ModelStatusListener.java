@@ -2,6 +2,8 @@ package model;
 
 /**
  * Listener for receiving updates about changes in the game state.
+ * Listeners added to ThreeTriosGameModel are called on their own delivery queue rather than
+ * on the thread making the move, one event at a time and in the order the events happened.
  */
 public interface ModelStatusListener {
 
@@ -18,5 +20,27 @@ public interface ModelStatusListener {
    * @param result a message indicating the game's result
    */
   void gameOver(String result);
-}
 
+  /**
+   * Notifies when a card is placed on the grid, before any cards it flips are reported.
+   *
+   * @param player the player who placed the card
+   * @param card   the card placed
+   * @param row    row of the cell the card was placed in
+   * @param col    column of the cell the card was placed in
+   */
+  default void cardPlaced(Player player, Card card, int row, int col) {
+    // not every listener follows single moves
+  }
+
+  /**
+   * Notifies when the battle phase after a card is placed flips cards to the placer's side.
+   * Not sent when the placed card flips nothing.
+   *
+   * @param newOwner the player the cards now belong to
+   * @param cells    the row and column of each flipped cell, in the order they were flipped
+   */
+  default void cellsFlipped(Player newOwner, int[][] cells) {
+    // not every listener follows single moves
+  }
+}
@@ -0,0 +1,31 @@
+package model;
+
+/**
+ * Receives every move made on a ThreeTriosGameModel as plain numbers, on the thread making the
+ * move, for keeping a record of whole games. Unlike a ModelStatusListener it is called before
+ * the move returns and is handed the model's own buffers, so it must be quick and must not keep
+ * or change the array it is given.
+ */
+public interface MoveRecorder {
+
+  /**
+   * Records a card placed by placeCard() or applyMove(), or a battle phase run on its own by
+   * executeBattlePhase(), together with the cells the battle phase flipped.
+   *
+   * @param blue      true if the card belongs to Blue, false if to Red
+   * @param handIndex position of the card in the player's hand before it was placed, or -1 for a
+   *                  battle phase run on its own
+   * @param row       row of the cell the card was placed in or the battle started from
+   * @param col       column of that cell
+   * @param cells     the flipped cells, each as row * columns + col
+   * @param offset    index in cells of the first flipped cell
+   * @param count     number of flipped cells
+   */
+  void moveMade(boolean blue, int handIndex, int row, int col, int[] cells, int offset,
+                int count);
+
+  /**
+   * Records that undoMove() took back the latest move.
+   */
+  void moveUndone();
+}
@@ -14,6 +14,14 @@ public interface Player {
    */
   void addCardToHand(Card card);
 
+  /**
+   * Inserts a card into the player's hand at the given position, shifting later cards back.
+   *
+   * @param index the position in the hand to insert at.
+   * @param card  the Card to be added.
+   */
+  void addCardToHand(int index, Card card);
+
   /**
    * Removes a card from the player's hand.
    *
@@ -28,6 +36,22 @@ public interface Player {
    */
   List<Card> getHand();
 
+  /**
+   * Gets the number of cards in the player's hand without copying it.
+   *
+   * @return the number of cards in hand.
+   */
+  int getHandSize();
+
+  /**
+   * Gets the card at the given position in the player's hand without copying the hand.
+   *
+   * @param index the position in the hand.
+   * @return the Card at that position.
+   * @throws IndexOutOfBoundsException if the index is not in the hand.
+   */
+  Card getCardInHand(int index);
+
   /**
    * Gets the color the current player is playing as.
    *
@@ -23,6 +23,11 @@ public class PlayerImpl implements Player, PlayerAction {
     hand.add(card);
   }
 
+  @Override
+  public void addCardToHand(int index, Card card) {
+    hand.add(index, card);
+  }
+
   @Override
   public void removeCardFromHand(Card card) {
     hand.remove(card);
@@ -33,6 +38,16 @@ public class PlayerImpl implements Player, PlayerAction {
     return new ArrayList<>(hand);
   }
 
+  @Override
+  public int getHandSize() {
+    return hand.size();
+  }
+
+  @Override
+  public Card getCardInHand(int index) {
+    return hand.get(index);
+  }
+
   @Override
   public String getColor() {
     return color;
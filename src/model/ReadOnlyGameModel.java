@@ -107,6 +107,18 @@ public interface ReadOnlyGameModel {
    */
   int getPotentialFlips(Player player, Card card, int row, int col);
 
+  /**
+   * Returns the exact number of cards that placing a card at that location would flip, including
+   * every card flipped in the combo steps that follow. Neither the grid nor the hands change.
+   *
+   * @param player Player playing the card.
+   * @param card   The card to be played.
+   * @param row    row index
+   * @param col    col index
+   * @return the number of flips the battle phase would make, or 0 if the cell is not playable.
+   */
+  int getCascadeFlips(Player player, Card card, int row, int col);
+
   /**
    * Gets the player's current score.
    *
@@ -137,5 +149,13 @@ public interface ReadOnlyGameModel {
    */
   void setPlayers(Player playerRed, Player playerBlue);
 
+  /**
+   * Gets an immutable snapshot of the game as it stands. The snapshot never changes once
+   * returned, so it can be read from any thread while the game carries on.
+   *
+   * @return the latest snapshot, or null if the game has not been set up yet
+   */
+  GameState getGameState();
+
 
 }
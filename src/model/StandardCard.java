@@ -2,16 +2,22 @@ package model;
 
 /**
  * Implementation of the Card interface which represent the cards used to play Three Trios.
+ * The four values are packed into the 16 bits described by Card.getPackedValues(), so comparing
+ * two cards is a pair of shifts rather than a walk through four enum references each.
  */
 public class StandardCard implements Card {
-  private String name;
-  private Value northValue;
-  private Value southValue;
-  private Value eastValue;
-  private Value westValue;
+  private static final Value[] VALUES = Value.values();
+  // bit position of each side in the packed values, indexed by Direction.ordinal()
+  private static final int[] SHIFTS = {12, 8, 4, 0};
+  // bit position of the side an attack in each direction is compared against
+  private static final int[] OPPOSITE_SHIFTS = {8, 12, 0, 4};
+
+  private final String name;
+  private final int values;
 
   /**
-   * Constructor for creating a StandardCard type.
+   * Constructor for creating a StandardCard type. Use CardFactory.createCard() instead to share
+   * one instance between all cards with the same name and values.
    *
    * @param name  name of the card
    * @param north north value
@@ -20,40 +26,27 @@ public class StandardCard implements Card {
    * @param west  west value
    */
   public StandardCard(String name, Value north, Value south, Value east, Value west) {
+    this(name, Card.pack(north, south, east, west));
+  }
+
+  StandardCard(String name, int values) {
     this.name = name;
-    this.northValue = north;
-    this.southValue = south;
-    this.eastValue = east;
-    this.westValue = west;
+    this.values = values;
   }
 
   @Override
   public boolean compareAgainst(Card opponent, Direction direction) {
-    Value thisValue;
-    Value opponentValue;
-    switch (direction) {
-      case NORTH:
-        thisValue = this.getNorthValue();
-        opponentValue = opponent.getSouthValue();
-        break;
-      case SOUTH:
-        thisValue = this.getSouthValue();
-        opponentValue = opponent.getNorthValue();
-        break;
-      case EAST:
-        thisValue = this.getEastValue();
-        opponentValue = opponent.getWestValue();
-        break;
-      case WEST:
-        thisValue = this.getWestValue();
-        opponentValue = opponent.getEastValue();
-        break;
-      default:
-        throw new IllegalArgumentException("Invalid direction");
-    }
-    return thisValue.getIntValue() > opponentValue.getIntValue();
+    int opponentValues = opponent instanceof StandardCard
+            ? ((StandardCard) opponent).values : opponent.getPackedValues();
+    int side = direction.ordinal();
+    return ((values >>> SHIFTS[side]) & 0xF)
+            > ((opponentValues >>> OPPOSITE_SHIFTS[side]) & 0xF);
   }
 
+  @Override
+  public int getPackedValues() {
+    return values;
+  }
 
   @Override
   public String getName() {
@@ -62,22 +55,21 @@ public class StandardCard implements Card {
 
   @Override
   public Value getNorthValue() {
-    return this.northValue;
+    return VALUES[((values >>> 12) & 0xF) - 1];
   }
 
   @Override
   public Value getSouthValue() {
-    return this.southValue;
+    return VALUES[((values >>> 8) & 0xF) - 1];
   }
 
   @Override
   public Value getEastValue() {
-    return this.eastValue;
+    return VALUES[((values >>> 4) & 0xF) - 1];
   }
 
   @Override
   public Value getWestValue() {
-    return this.westValue;
+    return VALUES[(values & 0xF) - 1];
   }
 }
-
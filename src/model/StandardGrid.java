@@ -53,6 +53,18 @@ public class StandardGrid implements Grid {
     cell.placeCard(card, owner);
   }
 
+  @Override
+  public void removeCard(int row, int col) {
+    if (!isWithinBounds(row, col)) {
+      throw new IllegalArgumentException("Position out of bounds.");
+    }
+    Cell cell = cells[row][col];
+    if (!cell.isOccupied()) {
+      throw new IllegalArgumentException("Cell is not occupied.");
+    }
+    cell.removeCard();
+  }
+
   @Override
   public int getCols() {
     return this.cols;
@@ -96,5 +108,19 @@ public class StandardGrid implements Grid {
     return row >= 0 && row < rows && col >= 0 && col < cols;
   }
 
+  @Override
+  public int getOwnedCellCount(Player owner) {
+    int count = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        Cell cell = cells[row][col];
+        if (cell.isOccupied() && owner.equals(cell.getOwner())) {
+          count++;
+        }
+      }
+    }
+    return count;
+  }
+
 }
 
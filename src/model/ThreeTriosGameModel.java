@@ -1,14 +1,13 @@
 package model;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executor;
 
-import adapters.CellAdapter;
-import adapters.GameCardAdapter;
 import adapters.GridAdapter;
 import adapters.PlayerAdapter;
 import provider.model.GameCard;
@@ -24,10 +23,67 @@ import provider.model.TieBreakerException;
  */
 public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyThreeTriosModel {
 
+  // North, South, East, West
+  private static final int[] ROW_STEPS = {-1, 1, 0, 0};
+  private static final int[] COL_STEPS = {0, 0, 1, -1};
+  private static final Direction[] DIRECTIONS = {
+      Direction.NORTH, Direction.SOUTH, Direction.EAST, Direction.WEST
+  };
+  // per-thread buffers for getCascadeFlips, so strategies can evaluate moves in parallel
+  private static final ThreadLocal<FlipOverlay> FLIP_OVERLAY =
+      ThreadLocal.withInitial(FlipOverlay::new);
+
   private Grid grid;
   private Player playerRed;
   private Player playerBlue;
   private Player currentPlayer;
+  private final Deque<MoveRecord> undoStack = new ArrayDeque<>();
+  private int[] battleQueue = new int[0];
+  // cells owned by Red and by Blue, kept up to date as cards are placed, flipped and taken back
+  private final int[] ownedCells = new int[2];
+  // the latest snapshot, and what has changed since it was taken
+  private volatile GameState state;
+  private boolean publishingStates = true;
+  private boolean[] rowChanged = new boolean[0];
+  private int[] changedRows = new int[0];
+  private int changedRowCount;
+  private boolean redHandChanged;
+  private boolean blueHandChanged;
+  // adapters handed to the provider's view, kept until the grid or player they wrap is replaced
+  private GridAdapter gridAdapter;
+  private PlayerAdapter redAdapter;
+  private PlayerAdapter blueAdapter;
+  private Grid adaptedGrid;
+  private Player adaptedRed;
+  private Player adaptedBlue;
+  private final ModelEventBus events = new ModelEventBus();
+  private MoveRecorder recorder;
+
+  /**
+   * Constructs an empty model. Use setPlayers() and initializeGame() to start a new game.
+   */
+  public ThreeTriosGameModel() {
+    // empty
+  }
+
+  /**
+   * Constructs a model that resumes a game already in progress, without dealing any cards.
+   * The players' hands and the cards on the grid are used exactly as given.
+   *
+   * @param grid          the grid, possibly with cards already placed
+   * @param playerRed     the Red player
+   * @param playerBlue    the Blue player
+   * @param currentPlayer the player whose turn it is
+   */
+  public ThreeTriosGameModel(Grid grid, Player playerRed, Player playerBlue,
+                             Player currentPlayer) {
+    this.grid = grid;
+    this.playerRed = playerRed;
+    this.playerBlue = playerBlue;
+    this.currentPlayer = currentPlayer;
+    recountOwnedCells();
+    rebuildState();
+  }
 
   @Override
   public void initializeGame(Grid grid, List<Card> cards, Random random)
@@ -63,21 +119,98 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
     }
 
     this.currentPlayer = playerRed;
+    recountOwnedCells();
+    rebuildState();
   }
 
 
   public void setCurrentPlayerForTest(Player player) {
     this.currentPlayer = player;
+    rebuildState();
   }
 
   public void setPlayers(Player playerRed, Player playerBlue) {
     this.playerRed = playerRed;
     this.playerBlue = playerBlue;
-  }
-
+    recountOwnedCells();
+    rebuildState();
+  }
+
+  /**
+   * Gets the latest snapshot of the game. A new snapshot is published after every placeCard(),
+   * switchTurn(), applyMove() and undoMove(), so the one returned stays consistent while the
+   * game moves on, and may be read from any thread without locking the model.
+   *
+   * @return the latest snapshot, or null if the grid or players have not been set up yet
+   */
+  @Override
+  public GameState getGameState() {
+    return state;
+  }
+
+  /**
+   * Turns the publishing of snapshots on or off. Private copies of a game which nothing else
+   * reads, such as the ones the search strategies play forward, can skip the work; turning it
+   * back on publishes a fresh snapshot straight away.
+   *
+   * @param publishing whether to publish a snapshot after every change
+   */
+  public void setPublishingStates(boolean publishing) {
+    this.publishingStates = publishing;
+    rebuildState();
+  }
+
+  /**
+   * Adds a listener for the game's events. Events are delivered on a thread of the model's
+   * event bus, through a queue of the listener's own, so a slow listener never holds up a move.
+   *
+   * @param listener the listener
+   * @throws IllegalArgumentException if the listener is null
+   */
   @Override
   public void addModelStatusListener(ModelStatusListener listener) {
-    // empty
+    events.add(listener);
+  }
+
+  /**
+   * Adds a listener for the game's events, delivered through a queue of the listener's own on
+   * the given executor. A Swing view would pass SwingUtilities::invokeLater.
+   *
+   * @param listener the listener
+   * @param executor runs the tasks that deliver the listener's events
+   * @throws IllegalArgumentException if the listener or executor is null
+   */
+  public void addModelStatusListener(ModelStatusListener listener, Executor executor) {
+    events.add(listener, executor);
+  }
+
+  /**
+   * Removes a listener added earlier. Events already queued for it are still delivered.
+   *
+   * @param listener the listener
+   * @return whether the listener was found
+   */
+  public boolean removeModelStatusListener(ModelStatusListener listener) {
+    return events.remove(listener);
+  }
+
+  /**
+   * Sets the recorder told about every move from now on, replacing any previous one.
+   * Models without a recorder do no recording work at all.
+   *
+   * @param recorder the recorder, or null to stop recording
+   */
+  public void setMoveRecorder(MoveRecorder recorder) {
+    this.recorder = recorder;
+  }
+
+  /**
+   * Gets the recorder told about every move.
+   *
+   * @return the recorder, or null if moves are not recorded
+   */
+  public MoveRecorder getMoveRecorder() {
+    return recorder;
   }
 
   @Override
@@ -95,9 +228,9 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
     String winner = getWinner();
 
     if (winner.contains("Red wins!")) {
-      return new PlayerAdapter(getPlayerRed());
+      return adaptPlayer(getPlayerRed());
     } else if (winner.contains("Blue wins!")) {
-      return new PlayerAdapter(getPlayerBlue());
+      return adaptPlayer(getPlayerBlue());
     } else {
       throw new TieBreakerException("It's a tie!");
     }
@@ -128,7 +261,7 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
 
   @Override
   public provider.model.Player currentTurn() {
-    return new PlayerAdapter(getCurrentPlayer());
+    return adaptPlayer(getCurrentPlayer());
   }
 
   @Override
@@ -143,24 +276,43 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
 
   @Override
   public provider.model.Grid returnGridCopy() {
-    return new GridAdapter(getGrid());
+    return adaptGrid();
   }
 
   @Override
   public provider.model.Cell returnCell(int row, int col) {
-    Cell cell = getCellAt(row, col);
-    return new CellAdapter(cell, row, col);
+    return adaptGrid().returnCell(row, col);
   }
 
   @Override
   public List<GameCard> returnPlayerHand(PlayerColor color) {
     Player player = (color == PlayerColor.RED) ? getPlayerRed() : getPlayerBlue();
-    List<Card> hand = player.getHand();
-    List<GameCard> gameCards = new ArrayList<>();
-    for (Card card : hand) {
-      gameCards.add(new GameCardAdapter(card, player));
+    return adaptPlayer(player).retrieveHand();
+  }
+
+  private GridAdapter adaptGrid() {
+    if (gridAdapter == null || adaptedGrid != grid) {
+      gridAdapter = new GridAdapter(grid, this);
+      adaptedGrid = grid;
+    }
+    return gridAdapter;
+  }
+
+  private PlayerAdapter adaptPlayer(Player player) {
+    if (player == playerRed) {
+      if (redAdapter == null || adaptedRed != player) {
+        redAdapter = new PlayerAdapter(player);
+        adaptedRed = player;
+      }
+      return redAdapter;
+    } else if (player == playerBlue) {
+      if (blueAdapter == null || adaptedBlue != player) {
+        blueAdapter = new PlayerAdapter(player);
+        adaptedBlue = player;
+      }
+      return blueAdapter;
     }
-    return gameCards;
+    return new PlayerAdapter(player);
   }
 
   @Override
@@ -182,7 +334,7 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
     model.Value east = adaptValue(gameCard.east());
     model.Value west = adaptValue(gameCard.west());
     String name = gameCard.toString();
-    return new StandardCard(name, north, south, east, west);
+    return CardFactory.createCard(name, north, south, east, west);
   }
 
   private model.Value adaptValue(int value) {
@@ -220,25 +372,8 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
       return "Game is not over yet.";
     }
 
-    int redScore = playerRed.getHand().size();
-    int blueScore = playerBlue.getHand().size();
-
-    int rows = grid.getRows();
-    int cols = grid.getCols();
-
-    for (int row = 0; row < rows; row++) {
-      for (int col = 0; col < cols; col++) {
-        Cell cell = grid.getCell(row, col);
-        if (cell != null && !cell.isHole() && cell.isOccupied()) {
-          Player owner = cell.getOwner();
-          if (owner == playerRed) {
-            redScore++;
-          } else if (owner == playerBlue) {
-            blueScore++;
-          }
-        }
-      }
-    }
+    int redScore = getPlayerScore(playerRed);
+    int blueScore = getPlayerScore(playerBlue);
 
     if (redScore > blueScore) {
       return "Red wins!";
@@ -263,44 +398,134 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
       throw new IllegalArgumentException("You don't have that card.");
     }
 
+    int handIndex = recorder == null ? -1 : player.getHand().indexOf(card);
+    grid.placeCard(card, row, col, player);
+    player.removeCardFromHand(card);
+    transferOwnedCell(null, player);
+    markChanged(row, player);
+    int flips = battle(row, col, null);
+    recordMove(player, handIndex, row, col, flips);
+    publishMoveEvents(player, card, row, col, flips);
+    publishState();
+  }
+
+  /**
+   * Plays a move for the current player and passes the turn, remembering exactly what changed so
+   * that undoMove() can take it back. The card is taken from the current player's hand, the
+   * battle phase is run, and every cell it flips is recorded along with its previous owner.
+   *
+   * @param move the card and cell to play; the card must be in the current player's hand
+   * @throws IllegalArgumentException if the cell is not playable or the card is not in hand
+   */
+  public void applyMove(Move move) {
+    Player player = currentPlayer;
+    Card card = move.getCard();
+    int row = move.getRow();
+    int col = move.getCol();
+    if (!grid.isPlayable(row, col)) {
+      throw new IllegalArgumentException("Cell is not playable.");
+    }
+    int handIndex = player.getHand().indexOf(card);
+    if (handIndex < 0) {
+      throw new IllegalArgumentException("You don't have that card.");
+    }
+
     grid.placeCard(card, row, col, player);
     player.removeCardFromHand(card);
-    executeBattlePhase(row, col);
+    transferOwnedCell(null, player);
+    markChanged(row, player);
+    MoveRecord record = new MoveRecord(player, card, handIndex, row, col);
+    int flips = battle(row, col, record);
+    undoStack.push(record);
+    recordMove(player, handIndex, row, col, flips);
+    publishMoveEvents(player, card, row, col, flips);
+    switchTurn();
+  }
+
+  /**
+   * Takes back the most recent move made with applyMove(). Flipped cells get their previous
+   * owners back, the card returns to its old position in the player's hand, and it becomes that
+   * player's turn again. Runs in time proportional to the number of cells the move flipped.
+   *
+   * @throws IllegalStateException if there is no move to undo
+   */
+  public void undoMove() {
+    if (undoStack.isEmpty()) {
+      throw new IllegalStateException("No moves to undo.");
+    }
+    MoveRecord record = undoStack.pop();
+    int cols = grid.getCols();
+    for (int i = record.flipCount - 1; i >= 0; i--) {
+      int cell = record.flippedCells[i];
+      Cell flipped = grid.getCell(cell / cols, cell % cols);
+      transferOwnedCell(flipped.getOwner(), record.previousOwners[i]);
+      flipped.setOwner(record.previousOwners[i]);
+      markChanged(cell / cols, null);
+    }
+    grid.removeCard(record.row, record.col);
+    transferOwnedCell(record.player, null);
+    record.player.addCardToHand(record.handIndex, record.card);
+    markChanged(record.row, record.player);
+    currentPlayer = record.player;
+    if (recorder != null) {
+      recorder.moveUndone();
+    }
+    publishState();
+    if (events.hasListeners()) {
+      Player turn = currentPlayer;
+      events.publish(listener -> listener.turnChanged(turn));
+    }
+  }
+
+  /**
+   * Gets the number of moves that undoMove() can currently take back.
+   *
+   * @return the number of recorded moves
+   */
+  public int getUndoableMoveCount() {
+    return undoStack.size();
   }
 
   @Override
   public void executeBattlePhase(int row, int col) {
+    Player owner = grid.getCell(row, col).getOwner();
+    int flips = battle(row, col, null);
+    recordMove(owner, -1, row, col, flips);
+    publishFlipEvents(owner, flips);
+    publishState();
+  }
+
+  /**
+   * Runs the battle phase from the given cell, flipping weaker adjacent opponent cards and then
+   * battling again from each flipped card. Every flipped card takes the placed card's owner, so a
+   * cell is queued at most once and the queue never needs more slots than the grid has cells.
+   * The queue and direction tables are reused, so a cascade allocates nothing on its own.
+   * Afterwards the flipped cells are in the queue after the placed one, in the order flipped.
+   *
+   * @return the number of cards flipped
+   */
+  private int battle(int row, int col, MoveRecord record) {
+    int cols = grid.getCols();
+    int cellCount = grid.getRows() * cols;
+    if (battleQueue.length < cellCount) {
+      battleQueue = new int[cellCount];
+    }
+    int head = 0;
+    int tail = 0;
+    battleQueue[tail++] = row * cols + col;
 
-    Deque<int[]> toProcess = new ArrayDeque<>();
-    toProcess.add(new int[]{row, col});
-
-    while (!toProcess.isEmpty()) {
-      int[] position = toProcess.poll();
-      int currentRow = position[0];
-      int currentCol = position[1];
+    while (head < tail) {
+      int position = battleQueue[head++];
+      int currentRow = position / cols;
+      int currentCol = position % cols;
 
       Cell currentCell = grid.getCell(currentRow, currentCol);
       Player currentOwner = currentCell.getOwner();
       Card currentCard = currentCell.getCard();
 
-      int[][] directions = {
-              {-1, 0}, // North
-              {1, 0},  // South
-              {0, 1},  // East
-              {0, -1}  // West
-      };
-      Direction[] dirEnums = {
-          Direction.NORTH,
-          Direction.SOUTH,
-          Direction.EAST,
-          Direction.WEST
-      };
-
-      for (int i = 0; i < directions.length; i++) {
-        int[] dir = directions[i];
-        int adjRow = currentRow + dir[0];
-        int adjCol = currentCol + dir[1];
-        Direction direction = dirEnums[i];
+      for (int i = 0; i < DIRECTIONS.length; i++) {
+        int adjRow = currentRow + ROW_STEPS[i];
+        int adjCol = currentCol + COL_STEPS[i];
 
         if (grid.isWithinBounds(adjRow, adjCol)) {
           Cell adjCell = grid.getCell(adjRow, adjCol);
@@ -308,16 +533,65 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
             Player adjOwner = adjCell.getOwner();
             if (adjOwner != currentOwner) {
               Card adjCard = adjCell.getCard();
-              boolean shouldFlip = currentCard.compareAgainst(adjCard, direction);
+              boolean shouldFlip = currentCard.compareAgainst(adjCard, DIRECTIONS[i]);
               if (shouldFlip) {
+                if (record != null) {
+                  record.addFlip(adjRow * cols + adjCol, adjOwner);
+                }
                 adjCell.setOwner(currentOwner);
-                toProcess.add(new int[]{adjRow, adjCol});
+                transferOwnedCell(adjOwner, currentOwner);
+                markChanged(adjRow, null);
+                battleQueue[tail++] = adjRow * cols + adjCol;
               }
             }
           }
         }
       }
     }
+    return tail - 1;
+  }
+
+  /**
+   * Tells the recorder about a card just placed, or a battle phase just run, and the cards the
+   * battle phase flipped, which are still in the battle queue.
+   */
+  private void recordMove(Player player, int handIndex, int row, int col, int flips) {
+    if (recorder != null) {
+      recorder.moveMade(slotOf(player) == 1, handIndex, row, col, battleQueue, 1, flips);
+    }
+  }
+
+  /**
+   * Tells the listeners about a card just placed and the cards its battle phase flipped, which
+   * are still in the battle queue.
+   */
+  private void publishMoveEvents(Player player, Card card, int row, int col, int flips) {
+    if (!events.hasListeners()) {
+      return;
+    }
+    events.publish(listener -> listener.cardPlaced(player, card, row, col));
+    publishFlipEvents(player, flips);
+  }
+
+  /**
+   * Tells the listeners about the cards a battle phase just flipped to the given player, which
+   * are still in the battle queue.
+   */
+  private void publishFlipEvents(Player player, int flips) {
+    if (flips > 0 && events.hasListeners()) {
+      int cols = grid.getCols();
+      int[] flipped = Arrays.copyOfRange(battleQueue, 1, flips + 1);
+      // each listener gets arrays of its own, so none can change what another sees
+      events.publish(listener -> listener.cellsFlipped(player, toRowsAndCols(flipped, cols)));
+    }
+  }
+
+  private static int[][] toRowsAndCols(int[] cells, int cols) {
+    int[][] rowsAndCols = new int[cells.length][];
+    for (int i = 0; i < cells.length; i++) {
+      rowsAndCols[i] = new int[] {cells[i] / cols, cells[i] % cols};
+    }
+    return rowsAndCols;
   }
 
   @Override
@@ -383,16 +657,110 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
 
   @Override
   public int getPlayerScore(Player player) {
-    int score = player.getHand().size();
-    for (int row = 0; row < grid.getRows(); row++) {
-      for (int col = 0; col < grid.getCols(); col++) {
-        Cell cell = grid.getCell(row, col);
-        if (cell.isOccupied() && cell.getOwner() == player) {
-          score++;
-        }
-      }
+    return player.getHandSize() + getOwnedCellCount(player);
+  }
+
+  /**
+   * Gets the number of cells on the grid that the given player owns. For the two players of this
+   * game the count is kept up to date as moves are made, so this does not scan the grid.
+   *
+   * @param player the player
+   * @return the number of cells the player owns
+   */
+  public int getOwnedCellCount(Player player) {
+    int slot = slotOf(player);
+    return slot >= 0 ? ownedCells[slot] : grid.getOwnedCellCount(player);
+  }
+
+  /**
+   * Moves one cell from the count of the old owner to the count of the new one. Either may be
+   * null, for a card arriving on or leaving the grid.
+   */
+  private void transferOwnedCell(Player from, Player to) {
+    int fromSlot = slotOf(from);
+    if (fromSlot >= 0) {
+      ownedCells[fromSlot]--;
+    }
+    int toSlot = slotOf(to);
+    if (toSlot >= 0) {
+      ownedCells[toSlot]++;
+    }
+  }
+
+  private int slotOf(Player player) {
+    if (player == null) {
+      return -1;
+    } else if (player == playerRed || (playerRed != null && playerRed.equals(player))) {
+      return 0;
+    } else if (player == playerBlue || (playerBlue != null && playerBlue.equals(player))) {
+      return 1;
     }
-    return score;
+    return -1;
+  }
+
+  /**
+   * Counts the cells each player owns from scratch, for a grid that may already hold cards.
+   */
+  private void recountOwnedCells() {
+    ownedCells[0] = grid == null || playerRed == null ? 0 : grid.getOwnedCellCount(playerRed);
+    ownedCells[1] = grid == null || playerBlue == null ? 0 : grid.getOwnedCellCount(playerBlue);
+  }
+
+  /**
+   * Notes that a row of the grid, and optionally a player's hand, changed since the latest
+   * snapshot, so that the next one copies them.
+   */
+  private void markChanged(int row, Player handOwner) {
+    if (!publishingStates || state == null) {
+      return;
+    }
+    if (!rowChanged[row]) {
+      rowChanged[row] = true;
+      changedRows[changedRowCount++] = row;
+    }
+    int slot = slotOf(handOwner);
+    if (slot == 0) {
+      redHandChanged = true;
+    } else if (slot == 1) {
+      blueHandChanged = true;
+    }
+  }
+
+  /**
+   * Publishes the snapshot following the latest one, sharing everything markChanged() has not
+   * flagged since.
+   */
+  private void publishState() {
+    if (!publishingStates || state == null) {
+      return;
+    }
+    state = state.next(grid, changedRows, changedRowCount, currentPlayer, redHandChanged,
+            blueHandChanged, ownedCells[0], ownedCells[1]);
+    for (int i = 0; i < changedRowCount; i++) {
+      rowChanged[changedRows[i]] = false;
+    }
+    changedRowCount = 0;
+    redHandChanged = false;
+    blueHandChanged = false;
+  }
+
+  /**
+   * Publishes a full snapshot read from the grid, for a game that has just been set up.
+   */
+  private void rebuildState() {
+    if (!publishingStates || grid == null || playerRed == null || playerBlue == null) {
+      state = null;
+      return;
+    }
+    if (rowChanged.length != grid.getRows()) {
+      rowChanged = new boolean[grid.getRows()];
+      changedRows = new int[grid.getRows()];
+    }
+    Arrays.fill(rowChanged, false);
+    changedRowCount = 0;
+    redHandChanged = false;
+    blueHandChanged = false;
+    state = GameState.of(grid, playerRed, playerBlue, currentPlayer);
   }
 
   @Override
@@ -443,14 +811,75 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
     return flips;
   }
 
+  @Override
+  public int getCascadeFlips(Player player, Card card, int row, int col) {
+    if (!grid.isWithinBounds(row, col) || !grid.isPlayable(row, col)
+            || grid.getCell(row, col).isHole() || grid.getCell(row, col).isOccupied()) {
+      return 0;
+    }
+    int cols = grid.getCols();
+    FlipOverlay overlay = FLIP_OVERLAY.get();
+    int stamp = overlay.begin(grid.getRows() * cols);
+    int[] queue = overlay.queue;
+    int[] flipStamps = overlay.stamps;
+    int origin = row * cols + col;
+    flipStamps[origin] = stamp;
+
+    // the same breadth-first walk as battle(), reading flipped cells from the overlay
+    int flips = 0;
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = origin;
+    while (head < tail) {
+      int position = queue[head++];
+      int currentRow = position / cols;
+      int currentCol = position % cols;
+      Card currentCard = position == origin ? card : grid.getCell(currentRow, currentCol)
+              .getCard();
+
+      for (int i = 0; i < DIRECTIONS.length; i++) {
+        int adjRow = currentRow + ROW_STEPS[i];
+        int adjCol = currentCol + COL_STEPS[i];
+        if (!grid.isWithinBounds(adjRow, adjCol)) {
+          continue;
+        }
+        int adjPosition = adjRow * cols + adjCol;
+        if (flipStamps[adjPosition] == stamp) {
+          continue; // already the player's in this evaluation
+        }
+        Cell adjCell = grid.getCell(adjRow, adjCol);
+        if (adjCell != null && !adjCell.isHole() && adjCell.isOccupied()
+                && !player.equals(adjCell.getOwner())
+                && currentCard.compareAgainst(adjCell.getCard(), DIRECTIONS[i])) {
+          flipStamps[adjPosition] = stamp;
+          queue[tail++] = adjPosition;
+          flips++;
+        }
+      }
+    }
+    return flips;
+  }
+
   @Override
   public void switchTurn() {
     currentPlayer = currentPlayer.equals(playerRed) ? playerBlue : playerRed;
+    publishState();
+    if (events.hasListeners()) {
+      Player turn = currentPlayer;
+      events.publish(listener -> listener.turnChanged(turn));
+      if (isGameOver()) {
+        String result = getWinner();
+        events.publish(listener -> listener.gameOver(result));
+      }
+    }
   }
 
   @Override
   public void startGame() {
-    // empty
+    if (events.hasListeners()) {
+      Player turn = currentPlayer;
+      events.publish(listener -> listener.turnChanged(turn));
+    }
   }
 
   @Override
@@ -463,4 +892,64 @@ public class ThreeTriosGameModel implements GameModel, provider.model.ReadOnlyTh
     return this.playerBlue;
   }
 
+  /**
+   * Scratch space for getCascadeFlips on one thread. A cell counts as flipped in the current
+   * evaluation when its stamp equals the evaluation's number, so nothing has to be cleared
+   * between evaluations.
+   */
+  private static final class FlipOverlay {
+    private int[] queue = new int[0];
+    private int[] stamps = new int[0];
+    private int stamp;
+
+    /**
+     * Makes room for a grid of the given number of cells and starts a new evaluation.
+     *
+     * @return the stamp marking cells flipped in this evaluation
+     */
+    int begin(int cellCount) {
+      if (queue.length < cellCount) {
+        queue = new int[cellCount];
+      }
+      if (stamps.length < cellCount || stamp == Integer.MAX_VALUE) {
+        stamps = new int[cellCount];
+        stamp = 0;
+      }
+      return ++stamp;
+    }
+  }
+
+  /**
+   * Everything needed to take back one move: who played which card from where in their hand,
+   * where it went, and which cells the battle phase flipped away from which owners.
+   */
+  private static final class MoveRecord {
+    private final Player player;
+    private final Card card;
+    private final int handIndex;
+    private final int row;
+    private final int col;
+    private int[] flippedCells = new int[4];
+    private Player[] previousOwners = new Player[4];
+    private int flipCount;
+
+    MoveRecord(Player player, Card card, int handIndex, int row, int col) {
+      this.player = player;
+      this.card = card;
+      this.handIndex = handIndex;
+      this.row = row;
+      this.col = col;
+    }
+
+    void addFlip(int cell, Player previousOwner) {
+      if (flipCount == flippedCells.length) {
+        flippedCells = Arrays.copyOf(flippedCells, flipCount * 2);
+        previousOwners = Arrays.copyOf(previousOwners, flipCount * 2);
+      }
+      flippedCells[flipCount] = cell;
+      previousOwners[flipCount] = previousOwner;
+      flipCount++;
+    }
+  }
+
 }
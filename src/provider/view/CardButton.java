@@ -8,12 +8,16 @@ import javax.swing.*;
 
 import provider.model.GameCard;
 import provider.model.PlayerColor;
+import view.CardImageCache;
 
 /**
  * Draws a card button in the ThreeTrios game. This button represents the button that can
  * be interacted with in the game and when pressed, responds accordingly to the rules.
  */
 public class CardButton extends JButton implements ButtonInterface {
+  private static final Font FONT = new Font("Dialog", Font.BOLD, 12);
+  private static final Color BLUE_BACKGROUND = Color.getHSBColor(0.55f, 0.25f, 0.9f);
+  private static final CardImageCache.CardPainter PAINTER = CardButton::paintFace;
 
   private int north;
   private int south;
@@ -48,7 +52,7 @@ public class CardButton extends JButton implements ButtonInterface {
       if (color.equals(PlayerColor.RED)) {
         this.setBackground(Color.PINK);
       } else {
-        this.setBackground(Color.getHSBColor(0.55f, 0.25f, 0.9f));
+        this.setBackground(BLUE_BACKGROUND);
       }
 
       this.setBorder(BorderFactory.createLineBorder(Color.LIGHT_GRAY));
@@ -124,26 +128,35 @@ public class CardButton extends JButton implements ButtonInterface {
   }
 
   /**
-   * Paints the button, overrides the paintComponent method for a button.
+   * Paints the button, overrides the paintComponent method for a button. A card's face is
+   * drawn once per distinct card, colour and size by the shared CardImageCache and copied from
+   * there on every later repaint.
    * @param g the Graphics object to protect
    */
   @Override
   protected void paintComponent(Graphics g) {
-    super.paintComponent(g);
-    Graphics2D g2d = (Graphics2D) g;
     if (this.card != null) {
-      g2d.drawString(Integer.toString(north), getWidth() / 2 - 5, 30);
-      g2d.drawString(Integer.toString(south), getWidth() / 2 - 5, getHeight() - 30);
-      g2d.drawString(Integer.toString(east), getWidth() - 25, getHeight() / 2);  // East
-      g2d.drawString(Integer.toString(west), 10, getHeight() / 2);  // West
-      if (color() == PlayerColor.RED) {
-        this.setBackground(Color.PINK);
-      } else {
-        this.setBackground(Color.getHSBColor(0.55f, 0.25f, 0.9f));
-      }
+      Color background = color() == PlayerColor.RED ? Color.PINK : BLUE_BACKGROUND;
+      this.setBackground(background);
+      CardImageCache.getShared().paintCard(g, PAINTER,
+              north << 12 | south << 8 | east << 4 | west, background, getWidth(), getHeight());
+    } else {
+      super.paintComponent(g);
     }
   }
 
+  private static void paintFace(Graphics2D g2d, int values, Color background, int width,
+                                int height) {
+    g2d.setColor(background);
+    g2d.fillRect(0, 0, width, height);
+    g2d.setFont(FONT);
+    g2d.setColor(Color.BLACK);
+    g2d.drawString(Integer.toString((values >>> 12) & 0xF), width / 2 - 5, 30);  // North
+    g2d.drawString(Integer.toString((values >>> 8) & 0xF), width / 2 - 5, height - 30);  // South
+    g2d.drawString(Integer.toString((values >>> 4) & 0xF), width - 25, height / 2);  // East
+    g2d.drawString(Integer.toString(values & 0xF), 10, height / 2);  // West
+  }
+
   public GameCard card() {
     return this.card.returnCard();
   }
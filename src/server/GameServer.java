@@ -0,0 +1,153 @@
+package server;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import model.Card;
+import model.Grid;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+
+/**
+ * Hosts many independent games in one JVM. Sessions are kept in a registry by id and spread
+ * over a fixed set of stripes, each a single thread: all of a session's work runs on the stripe
+ * its id maps to, so each game sees its moves one at a time and in order, while thousands of
+ * games share as many threads as there are cores.
+ * A stripe never waits on a player. Selections come in through the seats of a session and
+ * results go out through SessionListeners, so a slow client cannot hold up the other games on
+ * its stripe as long as its listener returns promptly.
+ */
+public class GameServer implements AutoCloseable {
+  private final ExecutorService[] stripes;
+  private final ConcurrentMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+  private final AtomicLong nextId = new AtomicLong();
+  private final LongAdder movesPlayed = new LongAdder();
+
+  /**
+   * Constructs a server with one stripe per available core.
+   */
+  public GameServer() {
+    this(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Constructs a server.
+   *
+   * @param stripeCount how many threads the sessions are spread over
+   * @throws IllegalArgumentException if stripeCount is not positive
+   */
+  public GameServer(int stripeCount) {
+    if (stripeCount < 1) {
+      throw new IllegalArgumentException("At least one stripe is required.");
+    }
+    this.stripes = new ExecutorService[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      String name = "game-stripe-" + i;
+      stripes[i] = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+  }
+
+  /**
+   * Deals a new game and registers it. Nothing is sent to the listeners until the session is
+   * started.
+   *
+   * @param grid         the grid to play on, which must not be shared with another game
+   * @param deck         the cards to deal from; the list is shuffled in place
+   * @param random       the random used to shuffle the deck, or null to deal it as given
+   * @param redListener  receives what happens to the Red player
+   * @param blueListener receives what happens to the Blue player
+   * @return the new session
+   * @throws IllegalArgumentException if the deck is too small for the grid or a listener is null
+   */
+  public GameSession openSession(Grid grid, List<Card> deck, Random random,
+                                 SessionListener redListener, SessionListener blueListener) {
+    if (redListener == null || blueListener == null) {
+      throw new IllegalArgumentException("Listeners cannot be null.");
+    }
+    Player red = new PlayerImpl("Red");
+    Player blue = new PlayerImpl("Blue");
+    ThreeTriosGameModel model = new ThreeTriosGameModel();
+    model.setPlayers(red, blue);
+    model.initializeGame(grid, deck, random);
+
+    long id = nextId.getAndIncrement();
+    GameSession session = new GameSession(id, model, stripes[(int) (id % stripes.length)],
+            movesPlayed::increment, redListener, blueListener);
+    sessions.put(id, session);
+    return session;
+  }
+
+  /**
+   * Gets a registered session.
+   *
+   * @param id the session id
+   * @return the session, or null if there is no open session with that id
+   */
+  public GameSession getSession(long id) {
+    return sessions.get(id);
+  }
+
+  /**
+   * Closes a session and removes it from the registry. Selections still queued for it are
+   * dropped. Closing a session that is not registered does nothing.
+   *
+   * @param id the session id
+   */
+  public void closeSession(long id) {
+    GameSession session = sessions.remove(id);
+    if (session != null) {
+      session.close();
+    }
+  }
+
+  /**
+   * Gets the number of registered sessions.
+   *
+   * @return the number of open sessions
+   */
+  public int getSessionCount() {
+    return sessions.size();
+  }
+
+  /**
+   * Gets the number of stripes the sessions are spread over.
+   *
+   * @return the number of stripes
+   */
+  public int getStripeCount() {
+    return stripes.length;
+  }
+
+  /**
+   * Gets the number of moves played in all sessions since the server started.
+   *
+   * @return the number of moves played
+   */
+  public long getMovesPlayed() {
+    return movesPlayed.sum();
+  }
+
+  /**
+   * Closes every session and stops the stripes. Work still queued is dropped.
+   */
+  @Override
+  public void close() {
+    for (Long id : sessions.keySet()) {
+      closeSession(id);
+    }
+    for (ExecutorService stripe : stripes) {
+      stripe.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,181 @@
+package server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import controller.Features;
+import model.Card;
+import model.GameState;
+import model.Player;
+import model.ThreeTriosGameModel;
+
+/**
+ * One match hosted by a GameServer. Each player is seated with a Features object, and every
+ * selection made through it is queued on the session's executor, which runs the session's work
+ * one task at a time. The model is only ever touched from that executor, so it needs no locking,
+ * while anyone may read the latest snapshot with getGameState() from any thread.
+ * Selections follow the rules of ThreeTriosController: a player chooses a card from their hand,
+ * then the cell to play it on.
+ */
+public final class GameSession {
+  private final long id;
+  private final ThreeTriosGameModel model;
+  private final Executor executor;
+  private final Runnable onMove;
+  private final Seat red;
+  private final Seat blue;
+  private volatile boolean closed;
+
+  GameSession(long id, ThreeTriosGameModel model, Executor executor, Runnable onMove,
+              SessionListener redListener, SessionListener blueListener) {
+    this.id = id;
+    this.model = model;
+    this.executor = executor;
+    this.onMove = onMove;
+    this.red = new Seat(model.getPlayerRed(), redListener);
+    this.blue = new Seat(model.getPlayerBlue(), blueListener);
+  }
+
+  /**
+   * Gets the number the server registered this session under.
+   *
+   * @return the session id
+   */
+  public long getId() {
+    return id;
+  }
+
+  /**
+   * Gets the seat of the Red player, for passing on that player's selections.
+   *
+   * @return the Red player's features
+   */
+  public Features getRedSeat() {
+    return red;
+  }
+
+  /**
+   * Gets the seat of the Blue player, for passing on that player's selections.
+   *
+   * @return the Blue player's features
+   */
+  public Features getBlueSeat() {
+    return blue;
+  }
+
+  /**
+   * Gets the latest snapshot of the game. Safe to call from any thread.
+   *
+   * @return the latest snapshot
+   */
+  public GameState getGameState() {
+    return model.getGameState();
+  }
+
+  /**
+   * Checks whether the session has been closed. A closed session ignores further selections.
+   *
+   * @return true if the session is closed
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  void close() {
+    closed = true;
+  }
+
+  /**
+   * Sends both listeners the starting position, which is their cue to begin playing. Call this
+   * once whatever drives each listener has been handed its seat.
+   */
+  public void start() {
+    submit(() -> {
+      GameState state = model.getGameState();
+      red.listener.stateChanged(state);
+      blue.listener.stateChanged(state);
+    });
+  }
+
+  private void submit(Runnable task) {
+    try {
+      executor.execute(() -> {
+        if (!closed) {
+          task.run();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      closed = true; // the server has shut down
+    }
+  }
+
+  /**
+   * A player's place in the session. Selections are handed to the session's executor and
+   * checked there against the game as it stands when they are reached.
+   */
+  private final class Seat implements Features {
+    private final Player player;
+    private final SessionListener listener;
+    // only read and written on the session's executor
+    private Card selectedCard;
+
+    Seat(Player player, SessionListener listener) {
+      this.player = player;
+      this.listener = listener;
+    }
+
+    @Override
+    public void cardSelected(Card card) {
+      submit(() -> {
+        if (!model.getCurrentPlayer().equals(player)) {
+          listener.selectionRejected("It's not your turn!");
+        } else if (!player.getHand().contains(card)) {
+          listener.selectionRejected("You don't have that card.");
+        } else {
+          selectedCard = card;
+        }
+      });
+    }
+
+    @Override
+    public void cellSelected(int row, int col) {
+      submit(() -> play(row, col));
+    }
+
+    private void play(int row, int col) {
+      if (model.isGameOver()) {
+        listener.selectionRejected("The game is over.");
+        return;
+      }
+      if (!model.getCurrentPlayer().equals(player)) {
+        listener.selectionRejected("It's not your turn!");
+        return;
+      }
+      if (selectedCard == null) {
+        listener.selectionRejected("No card selected.");
+        return;
+      }
+      try {
+        model.placeCard(player, selectedCard, row, col);
+      } catch (IllegalArgumentException e) {
+        listener.selectionRejected("Invalid move: " + e.getMessage());
+        return;
+      } catch (IllegalStateException e) {
+        listener.selectionRejected("Game state error: " + e.getMessage());
+        return;
+      }
+      selectedCard = null;
+      model.switchTurn();
+      onMove.run();
+
+      GameState state = model.getGameState();
+      red.listener.stateChanged(state);
+      blue.listener.stateChanged(state);
+      if (state.isGameOver()) {
+        String result = model.getWinner();
+        red.listener.gameOver(result);
+        blue.listener.gameOver(result);
+      }
+    }
+  }
+}
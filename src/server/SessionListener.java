@@ -0,0 +1,32 @@
+package server;
+
+import model.GameState;
+
+/**
+ * Receives what happens in one seat's game session. This is the outbound half of the loopback
+ * transport: the inbound half is the Features object of the seat. Every call is made on the
+ * session's own thread, one at a time and in order, so an implementation must not block.
+ */
+public interface SessionListener {
+
+  /**
+   * Called when the session starts and after every move, with the game as it now stands.
+   *
+   * @param state the latest snapshot of the game
+   */
+  void stateChanged(GameState state);
+
+  /**
+   * Called when a card or cell selected by this seat was rejected.
+   *
+   * @param message why the selection was rejected
+   */
+  void selectionRejected(String message);
+
+  /**
+   * Called once when the last card cell of the grid has been filled.
+   *
+   * @param result the winner message, as given by the model
+   */
+  void gameOver(String result);
+}
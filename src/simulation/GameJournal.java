@@ -0,0 +1,269 @@
+package simulation;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import model.Card;
+import model.Grid;
+import model.MoveRecorder;
+
+/**
+ * An append-only file of finished games in the compact binary layout described by
+ * JournalFormat, a few bytes per move, for keeping every game of long headless runs.
+ *
+ * <p>Each game is recorded by a {@link Recording}, set as the model's MoveRecorder, which keeps
+ * the game in memory until {@link Recording#finish()} appends it whole. Games played on different
+ * threads therefore never interleave. Finished games are gathered in a buffer and written when it
+ * fills, and the file is only forced to disk once the given number of bytes has been written
+ * since the last time, so a crash loses at most that much. Appending to an existing journal keeps
+ * the games already in it. A journal may be shared by any number of threads.
+ */
+public final class GameJournal implements AutoCloseable {
+  /**
+   * How many bytes are written between forcing the file to disk, by default.
+   */
+  public static final long DEFAULT_SYNC_BYTES = 1L << 20;
+
+  private static final int BUFFER_BYTES = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+  private final long syncBytes;
+  private long unsyncedBytes;
+  private long games;
+  private boolean closed;
+
+  /**
+   * Opens a journal for appending, creating it if it does not exist, and forces it to disk every
+   * {@link #DEFAULT_SYNC_BYTES} bytes.
+   *
+   * @param file the journal file
+   * @throws IOException              if the file cannot be opened
+   * @throws IllegalArgumentException if the file exists and is not a journal
+   */
+  public GameJournal(Path file) throws IOException {
+    this(file, DEFAULT_SYNC_BYTES);
+  }
+
+  /**
+   * Opens a journal for appending, creating it if it does not exist.
+   *
+   * @param file      the journal file
+   * @param syncBytes how many bytes to write between forcing the file to disk
+   * @throws IOException              if the file cannot be opened
+   * @throws IllegalArgumentException if syncBytes is not positive, or the file exists and is
+   *                                  not a journal
+   */
+  public GameJournal(Path file, long syncBytes) throws IOException {
+    if (syncBytes < 1) {
+      throw new IllegalArgumentException("Sync interval must be positive: " + syncBytes);
+    }
+    if (Files.exists(file) && Files.size(file) > 0) {
+      try (InputStream in = Files.newInputStream(file)) {
+        if (Files.size(file) < Integer.BYTES
+                || new DataInputStream(in).readInt() != JournalFormat.JOURNAL_MAGIC) {
+          throw new IllegalArgumentException("Not a game journal: " + file);
+        }
+      }
+    }
+    this.syncBytes = syncBytes;
+    this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.APPEND);
+    if (channel.size() == 0) {
+      buffer.putInt(JournalFormat.JOURNAL_MAGIC);
+    }
+  }
+
+  /**
+   * Starts recording a game. The deck is the one given to initializeGame(), before shuffling.
+   *
+   * @param seed seed of the Random the deck is shuffled with
+   * @param grid the empty grid the game is played on
+   * @param deck the deck the hands are dealt from
+   * @return a recorder for the game's model
+   * @throws IllegalArgumentException if the grid has more than 255 rows or columns
+   */
+  public Recording startGame(long seed, Grid grid, List<Card> deck) {
+    return new Recording(seed, grid, deck);
+  }
+
+  /**
+   * Gets the number of games appended since the journal was opened.
+   *
+   * @return the number of games
+   */
+  public synchronized long getGameCount() {
+    return games;
+  }
+
+  /**
+   * Writes every finished game and forces the file to disk.
+   *
+   * @throws IOException           if the file cannot be written
+   * @throws IllegalStateException if the journal is closed
+   */
+  public synchronized void sync() throws IOException {
+    ensureOpen();
+    writeBuffer();
+    channel.force(false);
+    unsyncedBytes = 0;
+  }
+
+  /**
+   * Writes every finished game, forces the file to disk and closes it. Closing a closed journal
+   * does nothing.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    try {
+      sync();
+    } finally {
+      closed = true;
+      channel.close();
+    }
+  }
+
+  private synchronized void append(byte[] game, int length) throws IOException {
+    ensureOpen();
+    if (length > buffer.remaining()) {
+      writeBuffer();
+    }
+    if (length > buffer.capacity()) {
+      ByteBuffer whole = ByteBuffer.wrap(game, 0, length);
+      while (whole.hasRemaining()) {
+        channel.write(whole);
+      }
+    } else {
+      buffer.put(game, 0, length);
+    }
+    games++;
+    unsyncedBytes += length;
+    if (unsyncedBytes >= syncBytes) {
+      sync();
+    }
+  }
+
+  private void writeBuffer() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Journal is closed.");
+    }
+  }
+
+  /**
+   * Records the moves of one game into memory, to be appended to the journal when the game is
+   * finished. Only the thread playing the game may use it.
+   */
+  public final class Recording implements MoveRecorder {
+    private final int cols;
+    private final int moveBytes;
+    private byte[] bytes;
+    private int length;
+    private int moves;
+    private boolean finished;
+
+    private Recording(long seed, Grid grid, List<Card> deck) {
+      int rows = grid.getRows();
+      this.cols = grid.getCols();
+      if (rows > JournalFormat.MAX_SIDE || cols > JournalFormat.MAX_SIDE) {
+        throw new IllegalArgumentException("Grid is too large to journal: " + rows + "x" + cols);
+      }
+      this.moveBytes = JournalFormat.moveBytes(rows, cols);
+      this.bytes = new byte[JournalFormat.GAME_HEADER_BYTES
+              + moveBytes * (grid.getNumberOfCardCells() + 1)];
+      putLong(seed);
+      putLong(JournalFormat.gridHash(grid));
+      putLong(JournalFormat.deckHash(deck));
+      bytes[length++] = (byte) rows;
+      bytes[length++] = (byte) cols;
+      length += Integer.BYTES; // move count, filled in by finish()
+    }
+
+    @Override
+    public void moveMade(boolean blue, int handIndex, int row, int col, int[] cells, int offset,
+                         int count) {
+      if (finished) {
+        throw new IllegalStateException("Game is already finished.");
+      }
+      if (handIndex >= JournalFormat.NO_CARD) {
+        throw new IllegalArgumentException("Hand is too large to journal: " + handIndex);
+      }
+      if (length + moveBytes > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + moveBytes));
+      }
+      bytes[length] = (byte) (blue ? JournalFormat.BLUE : 0);
+      bytes[length + 1] = (byte) (handIndex < 0 ? JournalFormat.NO_CARD : handIndex);
+      bytes[length + 2] = (byte) row;
+      bytes[length + 3] = (byte) col;
+      int mask = length + JournalFormat.MOVE_HEADER_BYTES;
+      Arrays.fill(bytes, mask, length + moveBytes, (byte) 0);
+      for (int i = offset; i < offset + count; i++) {
+        bytes[mask + (cells[i] >>> 3)] |= (byte) (1 << (cells[i] & 7));
+      }
+      length += moveBytes;
+      moves++;
+    }
+
+    @Override
+    public void moveUndone() {
+      if (finished || moves == 0) {
+        throw new IllegalStateException("No recorded move to take back.");
+      }
+      length -= moveBytes;
+      moves--;
+    }
+
+    /**
+     * Gets the number of moves recorded so far.
+     *
+     * @return the number of moves
+     */
+    public int getMoveCount() {
+      return moves;
+    }
+
+    /**
+     * Appends the game to the journal. No more moves may be recorded afterwards.
+     *
+     * @throws IOException           if the journal cannot be written
+     * @throws IllegalStateException if the game was already finished or the journal is closed
+     */
+    public void finish() throws IOException {
+      if (finished) {
+        throw new IllegalStateException("Game is already finished.");
+      }
+      finished = true;
+      int count = JournalFormat.GAME_HEADER_BYTES - Integer.BYTES;
+      for (int shift = 24; shift >= 0; shift -= 8) {
+        bytes[count++] = (byte) (moves >>> shift);
+      }
+      append(bytes, length);
+    }
+
+    private void putLong(long value) {
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        bytes[length++] = (byte) (value >>> shift);
+      }
+    }
+  }
+}
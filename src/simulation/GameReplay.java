@@ -0,0 +1,282 @@
+package simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.BitboardGrid;
+import model.Card;
+import model.GameState;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+
+/**
+ * Plays a journalled game again through ThreeTriosGameModel, one move at a time, checking after
+ * every move that each cell has exactly the owner the journal says it should.
+ *
+ * <p>The game is dealt as TournamentRunner deals it: a copy of the deck shuffled with the game's
+ * seed, Red first. Moves are replayed with applyMove(), so the players must alternate as they do
+ * in every game. Every {@code keyframeInterval} moves the model's GameState is kept as a keyframe,
+ * so seeking back to an earlier move rebuilds the game from the nearest keyframe before it rather
+ * than from the start. Only the keyframes of the current game are kept.
+ */
+public final class GameReplay {
+  /**
+   * How many moves apart keyframes are, by default.
+   */
+  public static final int DEFAULT_KEYFRAME_INTERVAL = 4;
+
+  private final BitboardGrid grid;
+  private final List<Card> deck;
+  private final long gridHash;
+  private final long deckHash;
+  private final int keyframeInterval;
+  private JournalReader reader;
+  private ThreeTriosGameModel model;
+  private int position;
+  private final List<GameState> keyframes = new ArrayList<>();
+  // who should own each cell: 0 for nobody, 1 for Red, 2 for Blue
+  private byte[] owners = new byte[0];
+
+  /**
+   * Constructs a replay for games played on the given grid and deck, with keyframes every
+   * {@link #DEFAULT_KEYFRAME_INTERVAL} moves.
+   *
+   * @param grid the empty grid the games were played on
+   * @param deck the deck the games were dealt from, before shuffling
+   */
+  public GameReplay(BitboardGrid grid, List<Card> deck) {
+    this(grid, deck, DEFAULT_KEYFRAME_INTERVAL);
+  }
+
+  /**
+   * Constructs a replay for games played on the given grid and deck.
+   *
+   * @param grid             the empty grid the games were played on
+   * @param deck             the deck the games were dealt from, before shuffling
+   * @param keyframeInterval how many moves apart to keep keyframes
+   * @throws IllegalArgumentException if keyframeInterval is not positive
+   */
+  public GameReplay(BitboardGrid grid, List<Card> deck, int keyframeInterval) {
+    if (keyframeInterval < 1) {
+      throw new IllegalArgumentException("Keyframe interval must be positive: "
+              + keyframeInterval);
+    }
+    this.grid = grid.copy();
+    this.deck = List.copyOf(deck);
+    this.gridHash = JournalFormat.gridHash(grid);
+    this.deckHash = JournalFormat.deckHash(deck);
+    this.keyframeInterval = keyframeInterval;
+  }
+
+  /**
+   * Starts replaying the reader's current game from before its first move. The reader must stay
+   * on that game for as long as it is replayed.
+   *
+   * @param reader a reader whose current game was played on this replay's grid and deck
+   * @throws IllegalArgumentException if the game was played on another grid or deck, or the
+   *                                  reader has no current game
+   */
+  public void load(JournalReader reader) {
+    if (reader.getGameIndex() < 0) {
+      throw new IllegalArgumentException("The reader has no current game.");
+    }
+    if (reader.getGridHash() != gridHash || reader.getDeckHash() != deckHash) {
+      throw new IllegalArgumentException("Game " + reader.getGameIndex()
+              + " was played on a different grid or deck.");
+    }
+    this.reader = reader;
+    Player red = new PlayerImpl("Red");
+    Player blue = new PlayerImpl("Blue");
+    model = new ThreeTriosGameModel();
+    model.setPlayers(red, blue);
+    model.initializeGame(grid.copy(), new ArrayList<>(deck), new Random(reader.getSeed()));
+    position = 0;
+    keyframes.clear();
+    keyframes.add(model.getGameState());
+    readOwners(keyframes.get(0));
+  }
+
+  /**
+   * Gets the number of moves replayed so far.
+   *
+   * @return the number of moves played on the model
+   */
+  public int getPosition() {
+    return position;
+  }
+
+  /**
+   * Gets the number of moves in the game.
+   *
+   * @return the number of moves
+   */
+  public int getMoveCount() {
+    ensureLoaded();
+    return reader.getMoveCount();
+  }
+
+  /**
+   * Gets the game as it stands. The model is replaced when seeking back, so it should be fetched
+   * again after every seek.
+   *
+   * @return the model
+   */
+  public ReadOnlyGameModel getModel() {
+    ensureLoaded();
+    return model;
+  }
+
+  /**
+   * Plays the next move and checks the owner of every cell afterwards.
+   *
+   * @throws IllegalStateException if no game is loaded, every move has been played, or the game
+   *                               no longer matches the journal
+   */
+  public void step() {
+    ensureLoaded();
+    if (position == reader.getMoveCount()) {
+      throw new IllegalStateException("Every move has been replayed.");
+    }
+    int move = position;
+    boolean blue = reader.isBlue(move);
+    Player mover = blue ? model.getPlayerBlue() : model.getPlayerRed();
+    int row = reader.getRow(move);
+    int col = reader.getCol(move);
+    int handIndex = reader.getHandIndex(move);
+    if (handIndex < 0) {
+      model.executeBattlePhase(row, col);
+    } else {
+      if (model.getCurrentPlayer() != mover) {
+        throw diverged(move, "it is " + model.getCurrentPlayer().getColor() + "'s turn");
+      }
+      if (handIndex >= mover.getHandSize()) {
+        throw diverged(move, mover.getColor() + " holds only " + mover.getHandSize()
+                + " cards");
+      }
+      try {
+        model.applyMove(new Move(mover.getCardInHand(handIndex), row, col));
+      } catch (IllegalArgumentException e) {
+        throw diverged(move, e.getMessage());
+      }
+      owners[row * grid.getCols() + col] = (byte) (blue ? 2 : 1);
+    }
+    position++;
+    checkOwners(move, blue);
+    if (position % keyframeInterval == 0 && position / keyframeInterval == keyframes.size()) {
+      keyframes.add(model.getGameState());
+    }
+  }
+
+  /**
+   * Moves the game to just after the given number of moves, going back to the nearest keyframe
+   * first if that is sooner than playing on from where the game is.
+   *
+   * @param target how many moves should have been played
+   * @throws IllegalArgumentException if target is negative or more than the game's moves
+   * @throws IllegalStateException    if no game is loaded or the game no longer matches the
+   *                                  journal
+   */
+  public void seek(int target) {
+    ensureLoaded();
+    if (target < 0 || target > reader.getMoveCount()) {
+      throw new IllegalArgumentException("No move " + target + " in a game of "
+              + reader.getMoveCount() + " moves.");
+    }
+    int keyframe = Math.min(target / keyframeInterval, keyframes.size() - 1);
+    if (target < position || keyframe * keyframeInterval > position) {
+      restore(keyframe);
+    }
+    while (position < target) {
+      step();
+    }
+  }
+
+  /**
+   * Plays every remaining move, checking each one.
+   *
+   * @throws IllegalStateException if no game is loaded or the game no longer matches the
+   *                               journal
+   */
+  public void replayAll() {
+    seek(getMoveCount());
+  }
+
+  /**
+   * Rebuilds the game from a keyframe, with new players holding the hands it recorded.
+   */
+  private void restore(int keyframe) {
+    GameState state = keyframes.get(keyframe);
+    Player red = new PlayerImpl("Red");
+    Player blue = new PlayerImpl("Blue");
+    for (Card card : state.getHand(state.getPlayerRed())) {
+      red.addCardToHand(card);
+    }
+    for (Card card : state.getHand(state.getPlayerBlue())) {
+      blue.addCardToHand(card);
+    }
+    BitboardGrid restored = grid.copy();
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getCols(); col++) {
+        if (state.isOccupied(row, col)) {
+          restored.placeCard(state.getCardAt(row, col), row, col,
+                  state.getOwnerAt(row, col) == state.getPlayerRed() ? red : blue);
+        }
+      }
+    }
+    model = new ThreeTriosGameModel(restored, red, blue,
+            state.getCurrentPlayer() == state.getPlayerRed() ? red : blue);
+    position = keyframe * keyframeInterval;
+    readOwners(state);
+  }
+
+  private void readOwners(GameState state) {
+    int cols = state.getCols();
+    if (owners.length != state.getRows() * cols) {
+      owners = new byte[state.getRows() * cols];
+    }
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        Player owner = state.getOwnerAt(row, col);
+        owners[row * cols + col] = (byte) (owner == null ? 0
+                : owner == state.getPlayerRed() ? 1 : 2);
+      }
+    }
+  }
+
+  /**
+   * Applies a move's flipped cells to the expected owners and compares them with the model.
+   */
+  private void checkOwners(int move, boolean blue) {
+    int cols = grid.getCols();
+    Player red = model.getPlayerRed();
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        int cell = row * cols + col;
+        if (reader.isFlipped(move, row, col)) {
+          owners[cell] = (byte) (blue ? 2 : 1);
+        }
+        Player owner = model.getCardOwnerAt(row, col);
+        int actual = owner == null ? 0 : owner == red ? 1 : 2;
+        if (actual != owners[cell]) {
+          throw diverged(move, "cell (" + row + "," + col + ") is owned by "
+                  + (owner == null ? "nobody" : owner.getColor()));
+        }
+      }
+    }
+  }
+
+  private IllegalStateException diverged(int move, String reason) {
+    return new IllegalStateException("Game " + reader.getGameIndex() + " differs from the "
+            + "journal at move " + (move + 1) + ": " + reason + ".");
+  }
+
+  private void ensureLoaded() {
+    if (model == null) {
+      throw new IllegalStateException("No game is loaded.");
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package simulation;
+
+import java.util.List;
+
+import model.Card;
+import model.Grid;
+
+/**
+ * Layout of the game journal written by GameJournal. All numbers are big-endian.
+ *
+ * <p>A journal holds the magic number {@link #JOURNAL_MAGIC} followed by any number of games,
+ * each written whole. A game starts with a {@value #GAME_HEADER_BYTES}-byte header: the seed the
+ * deck was shuffled with, the hash of the grid and the hash of the deck before shuffling as longs,
+ * the number of rows and columns as unsigned bytes, and the number of moves as an int. Each move
+ * follows as {@value #MOVE_HEADER_BYTES} bytes, a flags byte with {@link #BLUE} set for Blue's
+ * moves, the card's index in its owner's hand (or {@link #NO_CARD} for a battle phase run on its
+ * own), then its row and column, and finally a bit mask of the cells the battle phase flipped:
+ * (rows * cols + 7) / 8 bytes in which bit (cell % 8) of byte (cell / 8) is set for each flipped
+ * cell, where cell is row * cols + col. Every move of a game is therefore the same size.
+ */
+final class JournalFormat {
+  static final int JOURNAL_MAGIC = 0x54544A31; // "TTJ1"
+  static final int GAME_HEADER_BYTES = 30;
+  static final int MOVE_HEADER_BYTES = 4;
+  static final int BLUE = 1;
+  static final int NO_CARD = 0xFF;
+  static final int MAX_SIDE = 0xFF;
+
+  private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private JournalFormat() {
+    // constants and helpers only
+  }
+
+  /**
+   * Gets the size in bytes of one move on a grid of the given size.
+   */
+  static int moveBytes(int rows, int cols) {
+    return MOVE_HEADER_BYTES + ((rows * cols + 7) >>> 3);
+  }
+
+  /**
+   * Hashes the size of a grid and which of its cells are holes, ignoring any cards on it.
+   */
+  static long gridHash(Grid grid) {
+    long hash = mix(mix(FNV_OFFSET, grid.getRows()), grid.getCols());
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < grid.getCols(); col++) {
+        hash = mix(hash, grid.getCell(row, col).isHole() ? 1 : 0);
+      }
+    }
+    return hash;
+  }
+
+  /**
+   * Hashes the names and values of a deck's cards, in order.
+   */
+  static long deckHash(List<Card> deck) {
+    long hash = mix(FNV_OFFSET, deck.size());
+    for (Card card : deck) {
+      String name = card.getName();
+      hash = mix(hash, name.length());
+      for (int i = 0; i < name.length(); i++) {
+        hash = mix(hash, name.charAt(i));
+      }
+      hash = mix(hash, card.getPackedValues());
+    }
+    return hash;
+  }
+
+  // FNV-1a over the four bytes of the value
+  private static long mix(long hash, int value) {
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,311 @@
+package simulation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads the games of a journal written by GameJournal one at a time, holding only the current
+ * game and a small read-ahead window in memory however large the journal is.
+ *
+ * <p>Games can be skipped without reading their moves, since each header gives the number of
+ * moves and every move of a game is the same size. The reader also remembers where every
+ * {@value #INDEX_INTERVAL}th game starts as it passes it, so seeking back to an earlier game
+ * skips at most that many headers.
+ */
+public final class JournalReader implements AutoCloseable {
+  /**
+   * How many games apart the remembered game positions are.
+   */
+  public static final int INDEX_INTERVAL = 1024;
+
+  private static final int WINDOW_BYTES = 1 << 16;
+
+  private final FileChannel channel;
+  private final long size;
+  private ByteBuffer window = ByteBuffer.allocate(WINDOW_BYTES);
+  private long windowStart;
+  // where game i * INDEX_INTERVAL starts, for every such game passed so far
+  private long[] index = new long[16];
+  private int indexed;
+  private long nextGame;
+  private long nextOffset = Integer.BYTES;
+  // the current game
+  private long game = -1;
+  private long seed;
+  private long gridHash;
+  private long deckHash;
+  private int rows;
+  private int cols;
+  private int moveCount;
+  private int moveBytes;
+  private byte[] moves = new byte[0];
+
+  /**
+   * Opens a journal for reading, before its first game.
+   *
+   * @param file the journal file
+   * @throws IOException              if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a journal
+   */
+  public JournalReader(Path file) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    this.size = channel.size();
+    window.limit(0);
+    if (size < Integer.BYTES || read(0, Integer.BYTES).getInt() != JournalFormat.JOURNAL_MAGIC) {
+      channel.close();
+      throw new IllegalArgumentException("Not a game journal: " + file);
+    }
+    index[indexed++] = nextOffset;
+  }
+
+  /**
+   * Reads the next game, making it the current one.
+   *
+   * @return false if there are no more games
+   * @throws IOException           if the file cannot be read
+   * @throws IllegalStateException if the journal ends partway through a game
+   */
+  public boolean next() throws IOException {
+    if (nextOffset == size) {
+      return false;
+    }
+    long offset = nextOffset;
+    ByteBuffer header = readHeader(offset);
+    seed = header.getLong();
+    gridHash = header.getLong();
+    deckHash = header.getLong();
+    rows = header.get() & 0xFF;
+    cols = header.get() & 0xFF;
+    moveCount = header.getInt();
+    moveBytes = JournalFormat.moveBytes(rows, cols);
+    long end = offset + JournalFormat.GAME_HEADER_BYTES + (long) moveCount * moveBytes;
+    if (moveCount < 0 || end > size) {
+      throw new IllegalStateException("Journal ends partway through game " + nextGame + ".");
+    }
+    int length = moveCount * moveBytes;
+    if (moves.length < length) {
+      moves = new byte[Math.max(length, moves.length * 2)];
+    }
+    read(offset + JournalFormat.GAME_HEADER_BYTES, length).get(moves, 0, length);
+    game = nextGame;
+    advance(end);
+    return true;
+  }
+
+  /**
+   * Moves to just before the given game, so that the next call to next() reads it.
+   *
+   * @param target index of the game, counting from 0
+   * @return false if the journal has fewer games, in which case the reader is at its end
+   * @throws IOException           if the file cannot be read
+   * @throws IllegalStateException if the journal ends partway through a game
+   */
+  public boolean seekGame(long target) throws IOException {
+    if (target < 0) {
+      throw new IllegalArgumentException("Game index cannot be negative: " + target);
+    }
+    game = -1;
+    if (target < nextGame || target - nextGame >= INDEX_INTERVAL) {
+      // start from the latest remembered game at or before the target, if it helps
+      int slot = (int) Math.min(target / INDEX_INTERVAL, indexed - 1);
+      long slotGame = (long) slot * INDEX_INTERVAL;
+      if (target < nextGame || slotGame > nextGame) {
+        nextGame = slotGame;
+        nextOffset = index[slot];
+      }
+    }
+    while (nextGame < target) {
+      if (nextOffset == size) {
+        return false;
+      }
+      ByteBuffer header = readHeader(nextOffset);
+      header.position(JournalFormat.GAME_HEADER_BYTES - Integer.BYTES - 2);
+      int gameRows = header.get() & 0xFF;
+      int gameCols = header.get() & 0xFF;
+      long length = (header.getInt() & 0xFFFFFFFFL) * JournalFormat.moveBytes(gameRows, gameCols);
+      advance(nextOffset + JournalFormat.GAME_HEADER_BYTES + length);
+    }
+    return nextOffset < size;
+  }
+
+  /**
+   * Gets the index of the current game.
+   *
+   * @return the index counting from 0, or -1 if no game has been read since the last seek
+   */
+  public long getGameIndex() {
+    return game;
+  }
+
+  /**
+   * Gets the seed the current game's deck was shuffled with.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Gets the hash of the grid the current game was played on.
+   *
+   * @return the grid hash
+   */
+  public long getGridHash() {
+    return gridHash;
+  }
+
+  /**
+   * Gets the hash of the deck the current game was dealt from, before shuffling.
+   *
+   * @return the deck hash
+   */
+  public long getDeckHash() {
+    return deckHash;
+  }
+
+  /**
+   * Gets the number of rows of the current game's grid.
+   *
+   * @return the number of rows
+   */
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of the current game's grid.
+   *
+   * @return the number of columns
+   */
+  public int getCols() {
+    return cols;
+  }
+
+  /**
+   * Gets the number of moves in the current game.
+   *
+   * @return the number of moves
+   */
+  public int getMoveCount() {
+    return moveCount;
+  }
+
+  /**
+   * Tells whether a move of the current game was Blue's.
+   *
+   * @param move index of the move, counting from 0
+   * @return true for Blue, false for Red
+   */
+  public boolean isBlue(int move) {
+    return (moves[offsetOf(move)] & JournalFormat.BLUE) != 0;
+  }
+
+  /**
+   * Gets the position in its owner's hand of the card a move of the current game played.
+   *
+   * @param move index of the move, counting from 0
+   * @return the hand index, or -1 for a battle phase run on its own
+   */
+  public int getHandIndex(int move) {
+    int handIndex = moves[offsetOf(move) + 1] & 0xFF;
+    return handIndex == JournalFormat.NO_CARD ? -1 : handIndex;
+  }
+
+  /**
+   * Gets the row a move of the current game was played in.
+   *
+   * @param move index of the move, counting from 0
+   * @return the row
+   */
+  public int getRow(int move) {
+    return moves[offsetOf(move) + 2] & 0xFF;
+  }
+
+  /**
+   * Gets the column a move of the current game was played in.
+   *
+   * @param move index of the move, counting from 0
+   * @return the column
+   */
+  public int getCol(int move) {
+    return moves[offsetOf(move) + 3] & 0xFF;
+  }
+
+  /**
+   * Tells whether the battle phase of a move of the current game flipped the given cell.
+   *
+   * @param move index of the move, counting from 0
+   * @param row  row of the cell
+   * @param col  column of the cell
+   * @return whether the cell was flipped
+   */
+  public boolean isFlipped(int move, int row, int col) {
+    int cell = row * cols + col;
+    return (moves[offsetOf(move) + JournalFormat.MOVE_HEADER_BYTES + (cell >>> 3)]
+            & (1 << (cell & 7))) != 0;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private int offsetOf(int move) {
+    if (game < 0 || move < 0 || move >= moveCount) {
+      throw new IndexOutOfBoundsException("No move " + move + " in the current game.");
+    }
+    return move * moveBytes;
+  }
+
+  private ByteBuffer readHeader(long offset) throws IOException {
+    return read(offset, JournalFormat.GAME_HEADER_BYTES);
+  }
+
+  /**
+   * Notes that the game before the given offset has been passed.
+   */
+  private void advance(long offset) {
+    if (offset > size) {
+      throw new IllegalStateException("Journal ends partway through game " + nextGame + ".");
+    }
+    nextGame++;
+    nextOffset = offset;
+    if (nextGame % INDEX_INTERVAL == 0 && nextGame / INDEX_INTERVAL == indexed) {
+      if (indexed == index.length) {
+        index = Arrays.copyOf(index, indexed * 2);
+      }
+      index[indexed++] = offset;
+    }
+  }
+
+  /**
+   * Gets a view of the given bytes of the file, refilling the window if they are not in it.
+   */
+  private ByteBuffer read(long offset, int length) throws IOException {
+    if (offset + length > size) {
+      throw new IllegalStateException("Journal ends partway through game " + nextGame + ".");
+    }
+    if (offset < windowStart || offset + length > windowStart + window.limit()) {
+      if (window.capacity() < length) {
+        window = ByteBuffer.allocate(length);
+      }
+      window.clear();
+      windowStart = offset;
+      while (window.position() < length) {
+        if (channel.read(window, offset + window.position()) < 0) {
+          break;
+        }
+      }
+      window.flip();
+    }
+    ByteBuffer view = window.duplicate();
+    view.position((int) (offset - windowStart));
+    view.limit(view.position() + length);
+    return view.slice();
+  }
+}
@@ -0,0 +1,142 @@
+package simulation;
+
+/**
+ * Win, loss and tie counts from a series of games between two strategies, seen from the side of
+ * the first strategy. Score margins are the first strategy's final score minus the second's.
+ */
+public final class TournamentResult {
+  private final int games;
+  private final int firstWins;
+  private final int secondWins;
+  private final int ties;
+  private final long totalMargin;
+  private final int largestWin;
+  private final int largestLoss;
+
+  /**
+   * Constructs a result.
+   *
+   * @param games       the number of games played
+   * @param firstWins   games won by the first strategy
+   * @param secondWins  games won by the second strategy
+   * @param ties        games that ended in a tie
+   * @param totalMargin the sum of the score margins over every game
+   * @param largestWin  the largest margin the first strategy won by, or 0
+   * @param largestLoss the largest margin the first strategy lost by, or 0
+   */
+  public TournamentResult(int games, int firstWins, int secondWins, int ties,
+                          long totalMargin, int largestWin, int largestLoss) {
+    if (firstWins + secondWins + ties != games) {
+      throw new IllegalArgumentException("Wins, losses and ties must add up to the games played.");
+    }
+    this.games = games;
+    this.firstWins = firstWins;
+    this.secondWins = secondWins;
+    this.ties = ties;
+    this.totalMargin = totalMargin;
+    this.largestWin = largestWin;
+    this.largestLoss = largestLoss;
+  }
+
+  /**
+   * Creates the result of a single game.
+   *
+   * @param margin the first strategy's score minus the second strategy's score
+   * @return a result holding one game
+   */
+  public static TournamentResult ofGame(int margin) {
+    return new TournamentResult(1, margin > 0 ? 1 : 0, margin < 0 ? 1 : 0, margin == 0 ? 1 : 0,
+            margin, Math.max(margin, 0), Math.max(-margin, 0));
+  }
+
+  /**
+   * Combines this result with the result of other games between the same strategies.
+   *
+   * @param other the other result
+   * @return a result covering the games of both
+   */
+  public TournamentResult merge(TournamentResult other) {
+    return new TournamentResult(games + other.games, firstWins + other.firstWins,
+            secondWins + other.secondWins, ties + other.ties, totalMargin + other.totalMargin,
+            Math.max(largestWin, other.largestWin), Math.max(largestLoss, other.largestLoss));
+  }
+
+  /**
+   * Retrieves the number of games played.
+   *
+   * @return int number of games
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Retrieves the number of games the first strategy won.
+   *
+   * @return int number of wins
+   */
+  public int getFirstWins() {
+    return firstWins;
+  }
+
+  /**
+   * Retrieves the number of games the second strategy won.
+   *
+   * @return int number of wins
+   */
+  public int getSecondWins() {
+    return secondWins;
+  }
+
+  /**
+   * Retrieves the number of games that ended in a tie.
+   *
+   * @return int number of ties
+   */
+  public int getTies() {
+    return ties;
+  }
+
+  /**
+   * Retrieves the sum of the score margins over every game.
+   *
+   * @return long total margin
+   */
+  public long getTotalMargin() {
+    return totalMargin;
+  }
+
+  /**
+   * Retrieves the largest margin the first strategy won a game by.
+   *
+   * @return int margin, 0 if it never won
+   */
+  public int getLargestWin() {
+    return largestWin;
+  }
+
+  /**
+   * Retrieves the largest margin the first strategy lost a game by.
+   *
+   * @return int margin, 0 if it never lost
+   */
+  public int getLargestLoss() {
+    return largestLoss;
+  }
+
+  /**
+   * Returns the average score margin of the first strategy over the second.
+   *
+   * @return the mean margin, or 0 if no games were played
+   */
+  public double getAverageMargin() {
+    return games == 0 ? 0 : (double) totalMargin / games;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("games=%d first=%d second=%d ties=%d avgMargin=%.3f "
+                    + "largestWin=%d largestLoss=%d", games, firstWins, secondWins, ties,
+            getAverageMargin(), largestWin, largestLoss);
+  }
+}
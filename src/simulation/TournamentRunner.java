@@ -0,0 +1,219 @@
+package simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import controller.BinaryCardFileReader;
+import controller.BinaryGridFileReader;
+import controller.GridFileReaderImpl;
+import controller.NioCardFileReader;
+import model.BitboardGrid;
+import model.Card;
+import model.GridType;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+import strategy.MoveStrategy;
+
+/**
+ * Plays many games between two strategies without any view or controller. The grid and deck are
+ * read once; every game gets a fresh copy of the grid and a shuffle of the deck seeded by the
+ * game number, so a run is reproducible for a given seed regardless of how many threads play it.
+ * The strategies swap colours every game so neither one always moves first.
+ * A strategy that returns no move while the game is still running plays the uppermost-leftmost
+ * open cell with the first card in its hand instead.
+ * Strategies are not assumed to be thread-safe: each worker thread builds its own pair from the
+ * given suppliers and reuses them for all the games it plays.
+ */
+public class TournamentRunner {
+  private final BitboardGrid grid;
+  private final List<Card> deck;
+  private final Supplier<MoveStrategy> first;
+  private final Supplier<MoveStrategy> second;
+  private final int threads;
+
+  /**
+   * Constructs a runner for the given board and deck.
+   *
+   * @param gridFile grid configuration file, in the format read by GridFileReaderImpl, or in
+   *                 the binary format if its name ends in .ttg
+   * @param cardFile card configuration file, in the format read by CardFileReaderImpl, or in
+   *                 the binary format if its name ends in .ttc
+   * @param first    creates instances of the first strategy
+   * @param second   creates instances of the second strategy
+   * @param threads  how many games to play at once
+   * @throws IllegalArgumentException if either file is invalid or threads is not positive
+   */
+  public TournamentRunner(File gridFile, File cardFile, Supplier<MoveStrategy> first,
+                          Supplier<MoveStrategy> second, int threads) {
+    if (first == null || second == null) {
+      throw new IllegalArgumentException("Strategies cannot be null.");
+    }
+    if (threads < 1) {
+      throw new IllegalArgumentException("At least one thread is required.");
+    }
+    this.grid = (BitboardGrid) (isBinary(gridFile, ".ttg")
+            ? new BinaryGridFileReader(GridType.BITBOARD)
+            : new GridFileReaderImpl(GridType.BITBOARD)).readGrid(gridFile);
+    this.deck = (isBinary(cardFile, ".ttc") ? new BinaryCardFileReader()
+            : new NioCardFileReader()).readCards(cardFile);
+    if (deck.size() < grid.getNumberOfCardCells() + 1) {
+      throw new IllegalArgumentException("Insufficient number of cards. Required: "
+              + (grid.getNumberOfCardCells() + 1) + ", but found: " + deck.size());
+    }
+    this.first = first;
+    this.second = second;
+    this.threads = threads;
+  }
+
+  /**
+   * Plays the given number of games and totals the results.
+   *
+   * @param games how many games to play
+   * @param seed  seed for shuffling the deck; game i is shuffled with seed + i
+   * @return the combined result, from the first strategy's side
+   * @throws IllegalArgumentException if games is negative
+   * @throws IllegalStateException    if a strategy throws during a game
+   */
+  public TournamentResult run(int games, long seed) {
+    return run(games, seed, null);
+  }
+
+  /**
+   * Plays the given number of games, appending each one to a journal as it finishes, and totals
+   * the results. Games are appended in the order they finish, which depends on the threads.
+   *
+   * @param games   how many games to play
+   * @param seed    seed for shuffling the deck; game i is shuffled with seed + i
+   * @param journal the journal to record games in, or null to record nothing
+   * @return the combined result, from the first strategy's side
+   * @throws IllegalArgumentException if games is negative
+   * @throws IllegalStateException    if a strategy throws during a game, or the journal cannot
+   *                                  be written
+   */
+  public TournamentResult run(int games, long seed, GameJournal journal) {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative.");
+    }
+    AtomicInteger nextGame = new AtomicInteger();
+    List<Callable<TournamentResult>> workers = new ArrayList<>();
+    for (int worker = 0; worker < Math.min(threads, Math.max(games, 1)); worker++) {
+      workers.add(() -> playGames(nextGame, games, seed, journal));
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(workers.size(), runnable -> {
+      Thread thread = new Thread(runnable, "tournament-worker");
+      thread.setDaemon(true);
+      return thread;
+    });
+    try {
+      TournamentResult total = new TournamentResult(0, 0, 0, 0, 0, 0, 0);
+      for (Future<TournamentResult> result : pool.invokeAll(workers)) {
+        total = total.merge(result.get());
+      }
+      return total;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Tournament was interrupted.", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Game failed: " + e.getCause().getMessage(), e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static boolean isBinary(File file, String extension) {
+    return file.getName().endsWith(extension);
+  }
+
+  private TournamentResult playGames(AtomicInteger nextGame, int games, long seed,
+                                     GameJournal journal) throws IOException {
+    MoveStrategy firstStrategy = first.get();
+    MoveStrategy secondStrategy = second.get();
+    try {
+      TournamentResult result = new TournamentResult(0, 0, 0, 0, 0, 0, 0);
+      for (int game = nextGame.getAndIncrement(); game < games;
+           game = nextGame.getAndIncrement()) {
+        result = result.merge(TournamentResult.ofGame(
+                playGame(game, seed + game, firstStrategy, secondStrategy, journal)));
+      }
+      return result;
+    } finally {
+      closeIfNeeded(firstStrategy);
+      closeIfNeeded(secondStrategy);
+    }
+  }
+
+  /**
+   * Releases what a worker's strategy holds, such as its own threads, once its games are done.
+   */
+  private static void closeIfNeeded(MoveStrategy strategy) {
+    if (strategy instanceof AutoCloseable) {
+      try {
+        ((AutoCloseable) strategy).close();
+      } catch (Exception e) {
+        throw new IllegalStateException("Could not close strategy: " + e.getMessage(), e);
+      }
+    }
+  }
+
+  /**
+   * Plays one game to the end and returns the first strategy's score minus the second's.
+   */
+  private int playGame(int game, long seed, MoveStrategy firstStrategy,
+                       MoveStrategy secondStrategy, GameJournal journal) throws IOException {
+    boolean firstIsRed = game % 2 == 0;
+    Player red = new PlayerImpl("Red");
+    Player blue = new PlayerImpl("Blue");
+    ThreeTriosGameModel model = new ThreeTriosGameModel();
+    // nothing reads a headless game's snapshots, so it need not publish one after every move
+    model.setPublishingStates(false);
+    model.setPlayers(red, blue);
+    GameJournal.Recording recording = journal == null ? null
+            : journal.startGame(seed, grid, deck);
+    model.setMoveRecorder(recording);
+    model.initializeGame(grid.copy(), new ArrayList<>(deck), new Random(seed));
+
+    while (!model.isGameOver()) {
+      Player mover = model.getCurrentPlayer();
+      MoveStrategy strategy = (mover == red) == firstIsRed ? firstStrategy : secondStrategy;
+      Move move = strategy.determineMove(model, mover);
+      if (move == null) {
+        move = firstLegalMove(model, mover);
+      }
+      model.applyMove(move);
+    }
+    if (recording != null) {
+      recording.finish();
+    }
+
+    int margin = model.getPlayerScore(red) - model.getPlayerScore(blue);
+    return firstIsRed ? margin : -margin;
+  }
+
+  /**
+   * Picks the uppermost-leftmost open cell and the first card in hand, for strategies such as
+   * CornerStrategy which give up once their preferred cells are taken.
+   */
+  private static Move firstLegalMove(ThreeTriosGameModel model, Player mover) {
+    for (int row = 0; row < model.getGridRows(); row++) {
+      for (int col = 0; col < model.getGridCols(); col++) {
+        if (model.isLegalMove(mover, row, col)) {
+          return new Move(mover.getHand().get(0), row, col);
+        }
+      }
+    }
+    throw new IllegalStateException("No legal move for " + mover.getColor() + ".");
+  }
+}
@@ -0,0 +1,275 @@
+package strategy;
+
+import java.util.List;
+
+import model.Card;
+import model.Move;
+import model.Player;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+
+/**
+ * Strategy that plays another strategy's moves until only a few card cells are left empty, and
+ * from then on searches every line of play to the end of the game, so that it never gives away
+ * an endgame it could have won. The move it returns gets the best final score difference against
+ * any reply; among equally good moves it takes the uppermost-leftmost cell and then the lowest
+ * card index, like the other strategies.
+ * The search is negamax with alpha-beta pruning over a private copy of the game, made and
+ * unmade in place with applyMove() and undoMove(). Positions are keyed by Zobrist hashes updated
+ * move by move and remembered in a transposition table, so lines reaching the same position by
+ * different move orders are searched once. If its SearchToken stops the search, the move of the
+ * other strategy is played instead.
+ * The moves of the first position are ranked by a MoveOrdering; deeper down, the remembered
+ * move and the killer moves that cut the search short elsewhere are tried first.
+ */
+public class EndgameStrategy implements MoveStrategy {
+  /**
+   * The number of empty card cells at which the search takes over, by default.
+   */
+  public static final int DEFAULT_MAX_EMPTY_CELLS = 6;
+
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+  // how many positions are visited between looks at the clock
+  private static final long TOKEN_CHECK_MASK = 1023;
+
+  private final MoveStrategy fallback;
+  private final int maxEmptyCells;
+  private final TranspositionTable table;
+  private final MoveOrdering ordering;
+  private ThreeTriosGameModel state;
+  private ZobristKeys.Tracker tracker;
+  private SearchToken token;
+  private int rootEmptyCells;
+  private long nodes;
+  private boolean stopped;
+  private boolean lastMoveSolved;
+  private int lastValue;
+  private SearchStats lastStats;
+
+  /**
+   * Constructs a strategy that searches to the end once at most
+   * {@link #DEFAULT_MAX_EMPTY_CELLS} card cells are empty.
+   *
+   * @param fallback the strategy to play before then
+   */
+  public EndgameStrategy(MoveStrategy fallback) {
+    this(fallback, DEFAULT_MAX_EMPTY_CELLS);
+  }
+
+  /**
+   * Constructs a strategy.
+   *
+   * @param fallback      the strategy to play while more cells are empty
+   * @param maxEmptyCells the most empty card cells at which the search takes over, at least 1
+   * @throws IllegalArgumentException if fallback is null or maxEmptyCells is less than 1
+   */
+  public EndgameStrategy(MoveStrategy fallback, int maxEmptyCells) {
+    if (fallback == null) {
+      throw new IllegalArgumentException("Fallback strategy cannot be null.");
+    }
+    if (maxEmptyCells < 1) {
+      throw new IllegalArgumentException("At least one empty cell must be searched.");
+    }
+    this.fallback = fallback;
+    this.maxEmptyCells = maxEmptyCells;
+    this.table = new TranspositionTable(17);
+    this.ordering = new MoveOrdering();
+  }
+
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player) {
+    return determineMove(model, player, SearchToken.none());
+  }
+
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player, SearchToken token) {
+    long start = System.nanoTime();
+    lastMoveSolved = false;
+    int empty = SearchSupport.emptyCells(model);
+    if (empty == 0 || empty > maxEmptyCells || player.getHand().isEmpty()) {
+      Move move = fallback.determineMove(model, player, token);
+      lastStats = fallback.getLastSearchStats();
+      return move;
+    }
+    Move move = solve(model, player, token, empty);
+    if (move == null) {
+      move = fallback.determineMove(model, player, token);
+      lastStats = fallback.getLastSearchStats();
+      return move;
+    }
+    lastMoveSolved = true;
+    lastStats = new SearchStats(empty, nodes, System.nanoTime() - start);
+    return move;
+  }
+
+  @Override
+  public SearchStats getLastSearchStats() {
+    return lastStats;
+  }
+
+  /**
+   * Tells whether the latest move was found by searching to the end of the game.
+   *
+   * @return false if it came from the other strategy
+   */
+  public boolean isLastMoveSolved() {
+    return lastMoveSolved;
+  }
+
+  /**
+   * Gets the final score difference the latest solved move leads to, from the point of view of
+   * the player who made it, if the opponent plays as well as possible too.
+   *
+   * @return the player's final score minus the opponent's
+   * @throws IllegalStateException if the latest move was not solved
+   */
+  public int getLastValue() {
+    if (!lastMoveSolved) {
+      throw new IllegalStateException("The latest move was not solved.");
+    }
+    return lastValue;
+  }
+
+  /**
+   * Searches every move to the end of the game.
+   *
+   * @return the best move, or null if the token stopped the search
+   */
+  private Move solve(ReadOnlyGameModel model, Player player, SearchToken token, int empty) {
+    ThreeTriosGameModel root = SearchSupport.sandboxOf(model, player);
+    state = root;
+    tracker = new ZobristKeys(root).track(root);
+    root.setMoveRecorder(tracker);
+    table.clear();
+    ordering.clear();
+    rootEmptyCells = empty;
+    nodes = 0;
+    stopped = false;
+    this.token = token;
+
+    List<Card> hand = player.getHand();
+    int count = ordering.generate(root, 0, -1, true);
+    int[] moves = ordering.movesAt(0);
+    int best = -1;
+    int bestValue = -INFINITY;
+    int cols = root.getGridCols();
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      int card = move % hand.size();
+      if (repeatsEarlierCard(hand, card)) {
+        continue;
+      }
+      int cell = move / hand.size();
+      root.applyMove(new Move(hand.get(card), cell / cols, cell % cols));
+      // a move only has to beat the best so far, so anything no better may be cut short, unless
+      // it comes before the best in tie-break order and so would win a tie
+      int value = -negamax(1, -INFINITY, move < best ? 1 - bestValue : -bestValue);
+      root.undoMove();
+      if (stopped) {
+        return null;
+      }
+      if (value > bestValue || (value == bestValue && move < best)) {
+        bestValue = value;
+        best = move;
+      }
+    }
+    lastValue = bestValue;
+    int cell = best / hand.size();
+    return new Move(hand.get(best % hand.size()), cell / cols, cell % cols);
+  }
+
+  /**
+   * Searches the shared search state to the end of the game; every move made here is undone
+   * before returning.
+   *
+   * @return the final score difference from the point of view of the player to move
+   */
+  private int negamax(int ply, int alpha, int beta) {
+    if ((++nodes & TOKEN_CHECK_MASK) == 0 && token.shouldStop()) {
+      stopped = true;
+      return 0;
+    }
+    if (state.isGameOver()) {
+      return SearchSupport.scoreDifference(state);
+    }
+
+    long key = tracker.key();
+    int alphaOriginal = alpha;
+    int ttMove = -1;
+    int slot = table.find(key);
+    if (slot >= 0) {
+      // every search runs to the end of the game, so stored results are stored at depth 0 and
+      // are always deep enough
+      ttMove = table.move(slot);
+      int stored = table.value(slot);
+      byte flag = table.flag(slot);
+      if (flag == TranspositionTable.EXACT) {
+        return stored;
+      } else if (flag == TranspositionTable.LOWER_BOUND) {
+        alpha = Math.max(alpha, stored);
+      } else {
+        beta = Math.min(beta, stored);
+      }
+      if (alpha >= beta) {
+        return stored;
+      }
+    }
+
+    // cards flipped now say little about the final score, so below the root only the killer
+    // moves are put first, which saves more positions than ranking costs
+    int count = ordering.generate(state, ply, ttMove, false);
+    int[] moves = ordering.movesAt(ply);
+    List<Card> hand = state.getCurrentPlayer().getHand();
+    int handSize = hand.size();
+    int cols = state.getGridCols();
+    int best = -INFINITY;
+    int bestMove = -1;
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      int card = move % handSize;
+      if (repeatsEarlierCard(hand, card)) {
+        continue;
+      }
+      int cell = move / handSize;
+      state.applyMove(new Move(hand.get(card), cell / cols, cell % cols));
+      int value = -negamax(ply + 1, -beta, -alpha);
+      state.undoMove();
+      if (stopped) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestMove = move;
+      }
+      alpha = Math.max(alpha, value);
+      if (alpha >= beta) {
+        ordering.cutoff(state, ply, move, rootEmptyCells - ply);
+        break;
+      }
+    }
+
+    byte flag;
+    if (best <= alphaOriginal) {
+      flag = TranspositionTable.UPPER_BOUND;
+    } else if (best >= beta) {
+      flag = TranspositionTable.LOWER_BOUND;
+    } else {
+      flag = TranspositionTable.EXACT;
+    }
+    table.store(key, 0, best, flag, bestMove);
+    return best;
+  }
+
+  /**
+   * Tells whether the card at the given index is the same card as one before it in the hand,
+   * which would lead to exactly the same positions.
+   */
+  private static boolean repeatsEarlierCard(List<Card> hand, int card) {
+    for (int i = 0; i < card; i++) {
+      if (hand.get(i) == hand.get(card)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -1,8 +1,9 @@
 package strategy;
 
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import model.Card;
 import model.Move;
@@ -10,58 +11,136 @@ import model.Player;
 import model.ReadOnlyGameModel;
 
 /**
- * Strategy that selects the move which flips the maximum number of opponent's cards.
+ * Strategy that selects the move which flips the maximum number of opponent's cards. By default
+ * only the cards flipped directly by the placed card are counted; in cascade mode the cards
+ * flipped by the combo steps that follow are counted too.
+ * Ties go to the uppermost-leftmost cell and then the lowest card index. Given a ForkJoinPool,
+ * the cells of the grid are split between tasks on the pool; because the tie-break is part of
+ * each candidate's ranking, the move chosen is the same however the work is split.
  */
 public class FlipMaxStrategy implements MoveStrategy {
+  // a task evaluates at most this many (cell, card) candidates itself before splitting
+  private static final int CANDIDATES_PER_TASK = 256;
+  private static final int INDEX_BITS = 21;
+  private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+  private static final long NO_MOVE = -1;
+
+  private final boolean countCascades;
+  private final ForkJoinPool pool;
+
+  /**
+   * Constructs a strategy counting only the cards the placed card flips directly.
+   */
+  public FlipMaxStrategy() {
+    this(false);
+  }
 
-  @Override
-  public Move determineMove(ReadOnlyGameModel model, Player player) {
-    int maxFlips = -1;
-    List<Move> bestMoves = new ArrayList<>();
-
-
-    for (Card card : player.getHand()) {
-
-      for (int row = 0; row < model.getGridRows(); row++) {
-        for (int col = 0; col < model.getGridCols(); col++) {
-          if (model.isLegalMove(player, row, col)) {
-            int flips = model.getPotentialFlips(player, card, row, col);
+  /**
+   * Constructs a strategy.
+   *
+   * @param countCascades whether to count the cards flipped by the combo steps as well
+   */
+  public FlipMaxStrategy(boolean countCascades) {
+    this(countCascades, null);
+  }
 
+  /**
+   * Constructs a strategy which evaluates candidate moves in parallel. The model is only read
+   * while a move is chosen, so it must not be changed by another thread in the meantime.
+   *
+   * @param countCascades whether to count the cards flipped by the combo steps as well
+   * @param pool          the pool to evaluate moves on, or null to evaluate them all on the
+   *                      calling thread
+   */
+  public FlipMaxStrategy(boolean countCascades, ForkJoinPool pool) {
+    this.countCascades = countCascades;
+    this.pool = pool;
+  }
 
-            if (flips > maxFlips) {
-              maxFlips = flips;
-              bestMoves.clear();
-              bestMoves.add(new Move(card, row, col));
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player) {
+    List<Card> hand = player.getHand();
+    int cols = model.getGridCols();
+    int cells = model.getGridRows() * cols;
+
+    long best;
+    if (pool == null || (long) cells * hand.size() <= CANDIDATES_PER_TASK) {
+      best = evaluate(model, player, hand, 0, cells);
+    } else {
+      best = pool.invoke(new EvaluateTask(model, player, hand, 0, cells));
+    }
 
-            } else if (flips == maxFlips) {
-              bestMoves.add(new Move(card, row, col));
+    if (best == NO_MOVE) {
+      return null; // No valid moves
+    }
+    int cell = (int) (INDEX_MASK - ((best >>> INDEX_BITS) & INDEX_MASK));
+    int card = (int) (INDEX_MASK - (best & INDEX_MASK));
+    return new Move(hand.get(card), cell / cols, cell % cols);
+  }
 
-            }
-          }
-        }
+  /**
+   * Ranks every legal move on the cells from start (inclusive) to end (exclusive), in row-major
+   * order, and returns the best one's ranking.
+   */
+  private long evaluate(ReadOnlyGameModel model, Player player, List<Card> hand,
+                        int start, int end) {
+    int cols = model.getGridCols();
+    long best = NO_MOVE;
+    for (int cell = start; cell < end; cell++) {
+      int row = cell / cols;
+      int col = cell % cols;
+      if (!model.isLegalMove(player, row, col)) {
+        continue;
+      }
+      for (int card = 0; card < hand.size(); card++) {
+        int flips = countCascades ? model.getCascadeFlips(player, hand.get(card), row, col)
+                : model.getPotentialFlips(player, hand.get(card), row, col);
+        best = Math.max(best, rank(flips, cell, card));
       }
     }
+    return best;
+  }
 
-    System.out.println("Best moves found: " + bestMoves);
-
-
-    // Tie-breaking rules
-    return selectBestMove(bestMoves);
+  /**
+   * Packs a candidate into a long which is larger for better moves: more flips first, then the
+   * lower cell index (uppermost-leftmost), then the lower card index.
+   */
+  private static long rank(int flips, int cell, int card) {
+    return (long) flips << (2 * INDEX_BITS)
+            | (INDEX_MASK - cell) << INDEX_BITS
+            | (INDEX_MASK - card);
   }
 
-  private Move selectBestMove(List<Move> moves) {
-    if (moves.isEmpty()) {
-      return null; // No valid moves
+  /**
+   * Evaluates a range of cells, splitting it in half until each half is small enough.
+   */
+  private final class EvaluateTask extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private final ReadOnlyGameModel model;
+    private final Player player;
+    private final List<Card> hand;
+    private final int start;
+    private final int end;
+
+    EvaluateTask(ReadOnlyGameModel model, Player player, List<Card> hand, int start, int end) {
+      this.model = model;
+      this.player = player;
+      this.hand = hand;
+      this.start = start;
+      this.end = end;
     }
-    // Choose the move with the uppermost-leftmost coordinate and the card with the lowest index
-    Move bestMove = moves.get(0);
-    for (Move move : moves) {
-      if (move.getRow() < bestMove.getRow()
-              || (move.getRow() == bestMove.getRow() && move.getCol() < bestMove.getCol())) {
-        bestMove = move;
+
+    @Override
+    protected Long compute() {
+      if (end - start <= Math.max(1, CANDIDATES_PER_TASK / Math.max(1, hand.size()))) {
+        return evaluate(model, player, hand, start, end);
       }
+      int middle = (start + end) >>> 1;
+      EvaluateTask upper = new EvaluateTask(model, player, hand, start, middle);
+      upper.fork();
+      long lower = new EvaluateTask(model, player, hand, middle, end).compute();
+      return Math.max(upper.join(), lower);
     }
-    return bestMove;
   }
-
 }
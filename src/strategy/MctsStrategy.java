@@ -0,0 +1,320 @@
+package strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Card;
+import model.Move;
+import model.Player;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+
+/**
+ * Strategy that picks a move with Monte Carlo Tree Search. Each worker thread grows its own
+ * search tree from the current position, playing random games to the end on a private copy of
+ * the game through the model's own applyMove() and undoMove(), so playouts follow exactly the
+ * engine's placement and battle rules. When the time budget runs out, the visit counts of the
+ * root moves are summed across workers and the most visited move wins, with ties going to the
+ * uppermost-leftmost cell and then the lowest card index.
+ * The worker threads are started on the first move and kept for later ones, until the strategy
+ * is closed.
+ */
+public class MctsStrategy implements MoveStrategy, AutoCloseable {
+  private static final double EXPLORATION = Math.sqrt(2);
+
+  private final int threads;
+  private final long budgetNanos;
+  private final long seed;
+  private ExecutorService workers;
+  private boolean closed;
+
+  /**
+   * Constructs an MCTS strategy using every available core and a one second budget.
+   */
+  public MctsStrategy() {
+    this(Runtime.getRuntime().availableProcessors(), 1000);
+  }
+
+  /**
+   * Constructs an MCTS strategy.
+   *
+   * @param threads      the number of independent search trees to grow in parallel
+   * @param budgetMillis how long each move may take, in milliseconds
+   */
+  public MctsStrategy(int threads, long budgetMillis) {
+    this(threads, budgetMillis, System.nanoTime());
+  }
+
+  /**
+   * Constructs an MCTS strategy with a fixed random seed.
+   *
+   * @param threads      the number of independent search trees to grow in parallel
+   * @param budgetMillis how long each move may take, in milliseconds
+   * @param seed         seed for the random playouts
+   */
+  public MctsStrategy(int threads, long budgetMillis, long seed) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("At least one search thread is required.");
+    }
+    if (budgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive.");
+    }
+    this.threads = threads;
+    this.budgetNanos = budgetMillis * 1_000_000L;
+    this.seed = seed;
+  }
+
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player) {
+    return determineMove(model, player, SearchToken.none());
+  }
+
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player, SearchToken token) {
+    // stop at the strategy's own budget or the token's deadline, whichever comes first
+    long budgetDeadline = System.nanoTime() + budgetNanos;
+    long deadline = token != SearchToken.none() && token.getDeadline() - budgetDeadline < 0
+            ? token.getDeadline() : budgetDeadline;
+    ThreeTriosGameModel root = SearchSupport.sandboxOf(model, player);
+    int[] rootMoves = legalMoves(root);
+    if (rootMoves.length == 0) {
+      return null; // No valid moves
+    }
+
+    int[] visits = new int[rootMoves.length];
+    if (rootMoves.length > 1) {
+      List<Callable<int[]>> searches = new ArrayList<>();
+      for (int worker = 0; worker < threads; worker++) {
+        ThreeTriosGameModel workerRoot = SearchSupport.sandboxOf(root, root.getCurrentPlayer());
+        Random random = new Random(seed + worker);
+        searches.add(() -> new Search(workerRoot, rootMoves, random).run(deadline, token));
+      }
+      try {
+        for (Future<int[]> result : workers().invokeAll(searches)) {
+          int[] workerVisits = result.get();
+          for (int i = 0; i < visits.length; i++) {
+            visits[i] += workerVisits[i];
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (ExecutionException e) {
+        throw new IllegalStateException("MCTS worker failed: " + e.getCause().getMessage(),
+                e.getCause());
+      }
+    }
+
+    // root moves are listed uppermost-leftmost first, so the first maximum wins ties
+    int best = 0;
+    for (int i = 1; i < visits.length; i++) {
+      if (visits[i] > visits[best]) {
+        best = i;
+      }
+    }
+    int cell = rootMoves[best] >>> 16;
+    List<Card> hand = player.getHand();
+    return new Move(hand.get(rootMoves[best] & 0xFFFF), cell / root.getGridCols(),
+            cell % root.getGridCols());
+  }
+
+  /**
+   * Stops the worker threads. The strategy cannot choose moves afterwards; closing it again has
+   * no effect.
+   */
+  @Override
+  public synchronized void close() {
+    closed = true;
+    if (workers != null) {
+      workers.shutdownNow();
+      workers = null;
+    }
+  }
+
+  private synchronized ExecutorService workers() {
+    if (closed) {
+      throw new IllegalStateException("Strategy has been closed.");
+    }
+    if (workers == null) {
+      workers = Executors.newFixedThreadPool(threads, runnable -> {
+        Thread thread = new Thread(runnable, "mcts-worker");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return workers;
+  }
+
+  /**
+   * Lists the legal moves of the player to move as (cell index << 16 | card index),
+   * uppermost-leftmost cell first and lowest card index first within a cell.
+   */
+  private static int[] legalMoves(ThreeTriosGameModel state) {
+    Player mover = state.getCurrentPlayer();
+    int handSize = mover.getHand().size();
+    int cols = state.getGridCols();
+    List<Integer> cells = new ArrayList<>();
+    for (int row = 0; row < state.getGridRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        if (state.isLegalMove(mover, row, col)) {
+          cells.add(row * cols + col);
+        }
+      }
+    }
+    int[] moves = new int[cells.size() * handSize];
+    int count = 0;
+    for (int cell : cells) {
+      for (int card = 0; card < handSize; card++) {
+        moves[count++] = cell << 16 | card;
+      }
+    }
+    return moves;
+  }
+
+  private static void play(ThreeTriosGameModel state, int move) {
+    int cell = move >>> 16;
+    int cols = state.getGridCols();
+    Card card = state.getCurrentPlayer().getHand().get(move & 0xFFFF);
+    state.applyMove(new Move(card, cell / cols, cell % cols));
+  }
+
+  /**
+   * A single search tree grown by one worker thread. Every iteration plays forward on the
+   * worker's private copy of the game and then undoes all of its moves.
+   */
+  private static final class Search {
+    private final ThreeTriosGameModel state;
+    private final Node rootNode;
+    private final Random random;
+
+    Search(ThreeTriosGameModel state, int[] rootMoves, Random random) {
+      this.state = state;
+      this.rootNode = new Node(null, -1, null, rootMoves);
+      this.random = random;
+    }
+
+    /**
+     * Runs iterations until the deadline or cancellation and returns the visit count of every
+     * root move.
+     */
+    int[] run(long deadline, SearchToken token) {
+      do {
+        iterate();
+      } while (System.nanoTime() - deadline < 0 && !token.isCancelled()
+              && !Thread.currentThread().isInterrupted());
+
+      int[] visits = new int[rootNode.moves.length];
+      for (Node child : rootNode.children) {
+        visits[child.moveIndex] = child.visits;
+      }
+      return visits;
+    }
+
+    private void iterate() {
+      Node node = rootNode;
+
+      // selection
+      while (node.untried == 0 && !node.children.isEmpty()) {
+        node = node.select();
+        play(state, node.parent.moves[node.moveIndex]);
+      }
+
+      // expansion
+      if (node.untried > 0) {
+        String mover = state.getCurrentPlayer().getColor();
+        int pick = node.takeUntried(random);
+        play(state, node.moves[pick]);
+        Node child = new Node(node, pick, mover,
+                state.isGameOver() ? new int[0] : legalMoves(state));
+        node.children.add(child);
+        node = child;
+      }
+
+      // random playout
+      while (!state.isGameOver()) {
+        int[] moves = legalMoves(state);
+        play(state, moves[random.nextInt(moves.length)]);
+      }
+
+      // backpropagation
+      String winner = state.getWinner();
+      while (state.getUndoableMoveCount() > 0) {
+        state.undoMove();
+      }
+      for (; node.parent != null; node = node.parent) {
+        node.visits++;
+        if (winner.startsWith(node.mover)) {
+          node.wins += 1;
+        } else if (!winner.startsWith("Red") && !winner.startsWith("Blue")) {
+          node.wins += 0.5;
+        }
+      }
+      node.visits++;
+    }
+  }
+
+  /**
+   * A node of a search tree. The move array is never reordered; order holds indices into it,
+   * those of the untried moves in its first untried slots. Expanding a move swaps its index into
+   * slot untried - 1 and then shrinks untried, so the tried moves collect at the back.
+   */
+  private static final class Node {
+    private final Node parent;
+    private final int moveIndex;
+    private final String mover;
+    private final int[] moves;
+    private final int[] order;
+    private final List<Node> children;
+    private int untried;
+    private int visits;
+    private double wins;
+
+    Node(Node parent, int moveIndex, String mover, int[] moves) {
+      this.parent = parent;
+      this.moveIndex = moveIndex;
+      this.mover = mover;
+      this.moves = moves;
+      this.order = new int[moves.length];
+      for (int i = 0; i < order.length; i++) {
+        order[i] = i;
+      }
+      this.children = new ArrayList<>();
+      this.untried = moves.length;
+    }
+
+    /**
+     * Removes a random untried move and returns its index in the move array.
+     */
+    int takeUntried(Random random) {
+      int slot = random.nextInt(untried);
+      int pick = order[slot];
+      order[slot] = order[untried - 1];
+      order[untried - 1] = pick;
+      untried--;
+      return pick;
+    }
+
+    /**
+     * Picks the child with the highest upper confidence bound.
+     */
+    Node select() {
+      double logVisits = Math.log(visits);
+      Node best = null;
+      double bestScore = Double.NEGATIVE_INFINITY;
+      for (Node child : children) {
+        double score = child.wins / child.visits
+                + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (score > bestScore) {
+          bestScore = score;
+          best = child;
+        }
+      }
+      return best;
+    }
+  }
+}
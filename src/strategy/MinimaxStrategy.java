@@ -0,0 +1,296 @@
+package strategy;
+
+import java.util.List;
+
+import model.Card;
+import model.Move;
+import model.Player;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+
+/**
+ * Strategy that looks several moves ahead using minimax search with alpha-beta pruning.
+ * Positions are evaluated by score difference, and positions already searched are remembered
+ * in a Zobrist-hashed transposition table, with keys updated move by move as the search plays
+ * and takes back moves. The search stops early once it has visited a fixed number of positions,
+ * or when its SearchToken says so, returning the best move it has fully evaluated so far.
+ * A strategy made by withTimeBudget() instead deepens one ply at a time against a deadline,
+ * trying the previous depth's best move first, and returns the best move of the deepest search
+ * it completed; it stops deepening once a search reaches the end of the game.
+ * Moves are searched in the order of a MoveOrdering: most cards flipped first, then corners and
+ * edges, then the moves that cut the search short elsewhere.
+ * Ties are broken like the other strategies: uppermost-leftmost cell, then lowest card index.
+ */
+public class MinimaxStrategy implements MoveStrategy {
+  private static final int WIN_BONUS = 1000;
+  private static final int INFINITY = Integer.MAX_VALUE / 2;
+  // how many positions are visited between looks at the clock, kept small so that a time budget
+  // is overrun by well under a millisecond
+  private static final long TOKEN_CHECK_MASK = 127;
+  // ranking moves costs about as much as making them all, so below the root it only pays where
+  // at least this many plies are left to search; nearer the horizon killer moves go first and
+  // the rest stay in tie-break order
+  private static final int RANKED_DEPTH = 3;
+
+  private final int maxDepth;
+  private final long nodeBudget;
+  // 0 for a fixed-depth search
+  private final long budgetNanos;
+  private final TranspositionTable table;
+  private final MoveOrdering ordering;
+  private ThreeTriosGameModel state;
+  private ZobristKeys.Tracker tracker;
+  private long nodes;
+  private boolean outOfBudget;
+  private SearchToken token;
+  private long deadline;
+  private SearchStats lastStats;
+
+  /**
+   * Constructs a minimax strategy searching three moves ahead.
+   */
+  public MinimaxStrategy() {
+    this(3, 50_000);
+  }
+
+  /**
+   * Constructs a minimax strategy.
+   *
+   * @param maxDepth   how many moves (plies) to look ahead, at least 1
+   * @param nodeBudget how many positions the search may visit per move before stopping
+   */
+  public MinimaxStrategy(int maxDepth, long nodeBudget) {
+    this(maxDepth, nodeBudget, 0);
+  }
+
+  private MinimaxStrategy(int maxDepth, long nodeBudget, long budgetNanos) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Search depth must be at least 1.");
+    }
+    if (nodeBudget < 1) {
+      throw new IllegalArgumentException("Node budget must be positive.");
+    }
+    this.maxDepth = maxDepth;
+    this.nodeBudget = nodeBudget;
+    this.budgetNanos = budgetNanos;
+    this.table = new TranspositionTable(16);
+    this.ordering = new MoveOrdering();
+  }
+
+  /**
+   * Constructs a minimax strategy that deepens one ply at a time until the given time has passed
+   * or its SearchToken says to stop, whichever is sooner, with no limit on depth or positions.
+   *
+   * @param budgetMillis how long each move may take, in milliseconds
+   * @return the strategy
+   * @throws IllegalArgumentException if budgetMillis is not positive
+   */
+  public static MinimaxStrategy withTimeBudget(long budgetMillis) {
+    if (budgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive.");
+    }
+    return new MinimaxStrategy(Integer.MAX_VALUE, Long.MAX_VALUE, budgetMillis * 1_000_000L);
+  }
+
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player) {
+    return determineMove(model, player, SearchToken.none());
+  }
+
+  @Override
+  public Move determineMove(ReadOnlyGameModel model, Player player, SearchToken token) {
+    long start = System.nanoTime();
+    ThreeTriosGameModel root = SearchSupport.sandboxOf(model, player);
+    state = root;
+    tracker = new ZobristKeys(root).track(root);
+    root.setMoveRecorder(tracker);
+    table.clear();
+    ordering.clear();
+    nodes = 0;
+    outOfBudget = false;
+    this.token = token;
+    this.deadline = start + budgetNanos;
+
+    int best;
+    int depth;
+    if (budgetNanos == 0) {
+      best = searchRoot(maxDepth, -1);
+      depth = outOfBudget ? 0 : maxDepth;
+    } else {
+      // no point looking further ahead than the cells left to fill
+      int emptyCells = SearchSupport.emptyCells(root);
+      best = -1;
+      depth = 0;
+      while (depth < Math.min(maxDepth, Math.max(1, emptyCells))) {
+        int found = searchRoot(depth + 1, best);
+        if (outOfBudget) {
+          break;
+        }
+        best = found;
+        depth++;
+        if (2 * (System.nanoTime() - start) > budgetNanos) {
+          // each ply costs several times the last, so another one would not finish in time
+          break;
+        }
+      }
+      if (best < 0) {
+        // not even one ply was completed: fall back to the first legal move
+        best = searchRoot(0, -1);
+      }
+    }
+    lastStats = new SearchStats(depth, nodes, System.nanoTime() - start);
+
+    if (best < 0) {
+      return null; // No valid moves
+    }
+    List<Card> hand = player.getHand();
+    int cols = root.getGridCols();
+    int cell = best / hand.size();
+    return new Move(hand.get(best % hand.size()), cell / cols, cell % cols);
+  }
+
+  @Override
+  public SearchStats getLastSearchStats() {
+    return lastStats;
+  }
+
+  /**
+   * Searches every root move to the given depth, the given move first.
+   *
+   * @param depth     how many plies to search; 0 just picks the first legal move
+   * @param firstMove the move to search first, as (cell index * hand size + card index), or -1
+   * @return the best move fully evaluated before the budget ran out, in the same form, or -1 if
+   *     there are no legal moves
+   */
+  private int searchRoot(int depth, int firstMove) {
+    int count = ordering.generate(state, 0, firstMove, depth > 0);
+    if (count == 0) {
+      return -1;
+    }
+    int[] moves = ordering.movesAt(0);
+    if (depth == 0) {
+      return firstLegalMove(moves, count);
+    }
+    List<Card> hand = state.getCurrentPlayer().getHand();
+    int handSize = hand.size();
+    int cols = state.getGridCols();
+    int best = -1;
+    int bestValue = -INFINITY;
+    int alpha = -INFINITY;
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      int cell = move / handSize;
+      state.applyMove(new Move(hand.get(move % handSize), cell / cols, cell % cols));
+      // moves are not searched in tie-break order, so a move that would win a tie with the best
+      // so far must be evaluated exactly, while any other only has to be shown no better
+      int value = -negamax(depth - 1, 1, -INFINITY, move < best ? 1 - alpha : -alpha);
+      state.undoMove();
+      if (outOfBudget) {
+        break;
+      }
+      if (value > bestValue || (value == bestValue && move < best)) {
+        bestValue = value;
+        best = move;
+        alpha = Math.max(alpha, value);
+      }
+    }
+    // fall back to the first legal move if the budget ran out before any move was evaluated
+    return best < 0 ? firstLegalMove(moves, count) : best;
+  }
+
+  /**
+   * Finds the uppermost-leftmost move, lowest card index first, among the given moves.
+   */
+  private static int firstLegalMove(int[] moves, int count) {
+    int first = moves[0];
+    for (int i = 1; i < count; i++) {
+      first = Math.min(first, moves[i]);
+    }
+    return first;
+  }
+
+  private boolean pastDeadline() {
+    return budgetNanos != 0 && System.nanoTime() - deadline >= 0;
+  }
+
+  /**
+   * Searches the shared search state in place; every move made here is undone before returning.
+   */
+  private int negamax(int depth, int ply, int alpha, int beta) {
+    if (++nodes > nodeBudget || ((nodes & TOKEN_CHECK_MASK) == 0
+            && (token.shouldStop() || pastDeadline()))) {
+      outOfBudget = true;
+      return 0;
+    }
+    if (state.isGameOver()) {
+      int difference = SearchSupport.scoreDifference(state);
+      return difference + Integer.signum(difference) * WIN_BONUS;
+    }
+    if (depth == 0) {
+      return SearchSupport.scoreDifference(state);
+    }
+
+    long key = tracker.key();
+    int alphaOriginal = alpha;
+    int ttMove = -1;
+    int slot = table.find(key);
+    if (slot >= 0) {
+      ttMove = table.move(slot);
+      if (table.depth(slot) >= depth) {
+        int stored = table.value(slot);
+        byte flag = table.flag(slot);
+        if (flag == TranspositionTable.EXACT) {
+          return stored;
+        } else if (flag == TranspositionTable.LOWER_BOUND) {
+          alpha = Math.max(alpha, stored);
+        } else {
+          beta = Math.min(beta, stored);
+        }
+        if (alpha >= beta) {
+          return stored;
+        }
+      }
+    }
+
+    int count = ordering.generate(state, ply, ttMove, depth >= RANKED_DEPTH);
+    if (count == 0) {
+      return SearchSupport.scoreDifference(state);
+    }
+    int[] moves = ordering.movesAt(ply);
+    List<Card> hand = state.getCurrentPlayer().getHand();
+    int handSize = hand.size();
+    int cols = state.getGridCols();
+    int best = -INFINITY;
+    int bestMove = -1;
+    for (int i = 0; i < count; i++) {
+      int move = moves[i];
+      int cell = move / handSize;
+      state.applyMove(new Move(hand.get(move % handSize), cell / cols, cell % cols));
+      int value = -negamax(depth - 1, ply + 1, -beta, -alpha);
+      state.undoMove();
+      if (outOfBudget) {
+        return 0;
+      }
+      if (value > best) {
+        best = value;
+        bestMove = move;
+      }
+      alpha = Math.max(alpha, value);
+      if (alpha >= beta) {
+        ordering.cutoff(state, ply, move, depth);
+        break;
+      }
+    }
+
+    byte flag;
+    if (best <= alphaOriginal) {
+      flag = TranspositionTable.UPPER_BOUND;
+    } else if (best >= beta) {
+      flag = TranspositionTable.LOWER_BOUND;
+    } else {
+      flag = TranspositionTable.EXACT;
+    }
+    table.store(key, depth, best, flag, bestMove);
+    return best;
+  }
+}
@@ -0,0 +1,211 @@
+package strategy;
+
+import java.util.Arrays;
+import java.util.List;
+
+import model.Card;
+import model.Player;
+import model.ThreeTriosGameModel;
+
+/**
+ * Orders the legal moves of a search so that the likeliest best moves are tried first and
+ * alpha-beta cutoffs come early. Moves are ranked by the number of cards they flip, combo steps
+ * included; then by where they are played, corners before edges before the middle, as
+ * CornerStrategy prefers; and then by how often the same move caused a cutoff earlier in the
+ * search, through two killer moves per ply and a history score per cell and side. Moves still
+ * tied stay uppermost-leftmost first, then lowest card index.
+ *
+ * <p>Moves are written as (cell index * hand size + card index) into one primitive array per
+ * ply that is reused from node to node, so ordering a position allocates nothing once the
+ * arrays have grown to fit. A search keeps one ordering and clears it before each search.
+ */
+final class MoveOrdering {
+  // killer moves and the largest history score, in the lowest bits of a move's rank
+  private static final int FIRST_KILLER = 0xFFFF;
+  private static final int SECOND_KILLER = 0xFFFE;
+  private static final int MAX_HISTORY = 0xFFFD;
+  // flip counts above this rank alike, so that a rank always fits in an int
+  private static final int MAX_FLIPS = (1 << 13) - 1;
+
+  private int[][] moves = new int[0][];
+  // (-rank << 32 | move) of each candidate, sorted to put the best ranks first
+  private long[][] keys = new long[0][];
+  private int[] killers = new int[0];
+  // Red's cells and then Blue's
+  private int[] history = new int[0];
+
+  /**
+   * Forgets the killer moves and history scores of the previous search.
+   */
+  void clear() {
+    Arrays.fill(killers, -1);
+    Arrays.fill(history, 0);
+  }
+
+  /**
+   * Lists the legal moves of the player to move, best ranked first, with the given move tried
+   * before all others. The moves are left in the array returned by movesAt() for the same ply,
+   * which stays valid until moves are generated again at that ply.
+   *
+   * <p>Ranking costs a cascade flip count per move, about as much as making the move, so it is
+   * only worth it where the moves lead to positions that are searched further. Elsewhere, such
+   * as just above the search horizon, the moves can be listed unranked: uppermost-leftmost first,
+   * after the given move and the killer moves.
+   *
+   * @param state     the position to order the moves of
+   * @param ply       how many moves the position is below the root of the search
+   * @param firstMove the move to try first, such as the one the transposition table remembers,
+   *                  or -1
+   * @param ranked    whether to rank the moves, or only to put the given and killer moves first
+   * @return the number of moves
+   */
+  int generate(ThreeTriosGameModel state, int ply, int firstMove, boolean ranked) {
+    Player mover = state.getCurrentPlayer();
+    List<Card> hand = mover.getHand();
+    int handSize = hand.size();
+    int rows = state.getGridRows();
+    int cols = state.getGridCols();
+    ensureCapacity(ply, rows * cols, handSize);
+    int[] ordered = moves[ply];
+    long[] sortKeys = keys[ply];
+    int side = mover == state.getPlayerBlue() ? rows * cols : 0;
+    int firstKiller = killers[2 * ply];
+    int secondKiller = killers[2 * ply + 1];
+    int count = 0;
+    for (int row = 0; row < rows; row++) {
+      for (int col = 0; col < cols; col++) {
+        if (!state.isLegalMove(mover, row, col)) {
+          continue;
+        }
+        int cell = row * cols + col;
+        if (!ranked) {
+          for (int card = 0; card < handSize; card++) {
+            ordered[count++] = cell * handSize + card;
+          }
+          continue;
+        }
+        int placement = placementOf(row, col, rows, cols);
+        for (int card = 0; card < handSize; card++) {
+          int move = cell * handSize + card;
+          int rank;
+          if (move == firstMove) {
+            rank = Integer.MAX_VALUE;
+          } else {
+            int heuristic;
+            if (move == firstKiller) {
+              heuristic = FIRST_KILLER;
+            } else if (move == secondKiller) {
+              heuristic = SECOND_KILLER;
+            } else {
+              heuristic = history[side + cell];
+            }
+            int flips = Math.min(MAX_FLIPS,
+                    state.getCascadeFlips(mover, hand.get(card), row, col));
+            rank = flips << 18 | placement << 16 | heuristic;
+          }
+          sortKeys[count++] = (long) -rank << 32 | move;
+        }
+      }
+    }
+    if (ranked) {
+      Arrays.sort(sortKeys, 0, count);
+      for (int i = 0; i < count; i++) {
+        ordered[i] = (int) sortKeys[i];
+      }
+    } else {
+      // the last moved ends up first
+      moveToFront(ordered, count, secondKiller);
+      moveToFront(ordered, count, firstKiller);
+      moveToFront(ordered, count, firstMove);
+    }
+    return count;
+  }
+
+  /**
+   * Gets the moves last generated at the given ply.
+   *
+   * @param ply how many moves the position is below the root of the search
+   * @return the array holding them, best ranked first
+   */
+  int[] movesAt(int ply) {
+    return moves[ply];
+  }
+
+  /**
+   * Remembers that a move was good enough to cut the search of its position short, so that it
+   * is tried earlier in sibling positions and wherever the same cell is free for the same side.
+   *
+   * @param state the position the move was made in, with the move already undone
+   * @param ply   how many moves the position is below the root of the search
+   * @param move  the move, as (cell index * hand size + card index)
+   * @param depth how many plies were left to search below the position; deeper cutoffs count
+   *              for more
+   */
+  void cutoff(ThreeTriosGameModel state, int ply, int move, int depth) {
+    if (killers[2 * ply] != move) {
+      killers[2 * ply + 1] = killers[2 * ply];
+      killers[2 * ply] = move;
+    }
+    Player mover = state.getCurrentPlayer();
+    int cells = state.getGridRows() * state.getGridCols();
+    int index = (mover == state.getPlayerBlue() ? cells : 0)
+            + move / mover.getHand().size();
+    history[index] += Math.min(depth * depth, MAX_HISTORY);
+    if (history[index] > MAX_HISTORY) {
+      // halve every score, keeping their order, rather than let them saturate
+      for (int i = 0; i < history.length; i++) {
+        history[i] >>= 1;
+      }
+    }
+  }
+
+  /**
+   * Moves the given move, if it is listed, to the front of the list, shifting the moves before
+   * it back by one.
+   */
+  private static void moveToFront(int[] ordered, int count, int move) {
+    if (move < 0) {
+      return;
+    }
+    for (int i = 0; i < count; i++) {
+      if (ordered[i] == move) {
+        System.arraycopy(ordered, 0, ordered, 1, i);
+        ordered[0] = move;
+        return;
+      }
+    }
+  }
+
+  /**
+   * Ranks a cell 2 for a corner, 1 for the rest of the edge and 0 otherwise.
+   */
+  private static int placementOf(int row, int col, int rows, int cols) {
+    int edges = 0;
+    if (row == 0 || row == rows - 1) {
+      edges++;
+    }
+    if (col == 0 || col == cols - 1) {
+      edges++;
+    }
+    return edges;
+  }
+
+  private void ensureCapacity(int ply, int cells, int handSize) {
+    if (ply >= moves.length) {
+      int plies = Math.max(ply + 1, moves.length * 2);
+      moves = Arrays.copyOf(moves, plies);
+      keys = Arrays.copyOf(keys, plies);
+      int oldKillers = killers.length;
+      killers = Arrays.copyOf(killers, 2 * plies);
+      Arrays.fill(killers, oldKillers, killers.length, -1);
+    }
+    int candidates = cells * handSize;
+    if (moves[ply] == null || moves[ply].length < candidates) {
+      moves[ply] = new int[candidates];
+      keys[ply] = new long[candidates];
+    }
+    if (history.length < 2 * cells) {
+      history = new int[2 * cells];
+    }
+  }
+}
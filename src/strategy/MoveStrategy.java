@@ -16,4 +16,27 @@ public interface MoveStrategy {
    * @return the chosen move
    */
   Move determineMove(ReadOnlyGameModel model, Player player);
+
+  /**
+   * Determines the best move for the given player, stopping early when the token says so.
+   * Strategies that answer quickly need not override this; by default the token is ignored.
+   *
+   * @param model  the read-only model of the game
+   * @param player the player for whom the move is being determined
+   * @param token  says when the search has to stop
+   * @return the chosen move, or the best one found before stopping
+   */
+  default Move determineMove(ReadOnlyGameModel model, Player player, SearchToken token) {
+    return determineMove(model, player);
+  }
+
+  /**
+   * Gets how far the latest call to determineMove() searched. Strategies that do not search
+   * need not override this.
+   *
+   * @return the statistics of the latest search, or null if there are none
+   */
+  default SearchStats getLastSearchStats() {
+    return null;
+  }
 }
@@ -0,0 +1,60 @@
+package strategy;
+
+/**
+ * How far a search went while choosing one move: the depth it completed, the positions it
+ * visited and how long it took.
+ */
+public final class SearchStats {
+  private final int depth;
+  private final long nodes;
+  private final long nanos;
+
+  /**
+   * Constructs the statistics of one search.
+   *
+   * @param depth the deepest search, in plies, that was completed
+   * @param nodes the number of positions visited
+   * @param nanos how long the search took, in nanoseconds
+   * @throws IllegalArgumentException if any value is negative
+   */
+  public SearchStats(int depth, long nodes, long nanos) {
+    if (depth < 0 || nodes < 0 || nanos < 0) {
+      throw new IllegalArgumentException("Search statistics cannot be negative.");
+    }
+    this.depth = depth;
+    this.nodes = nodes;
+    this.nanos = nanos;
+  }
+
+  /**
+   * Gets the deepest search that was completed; its best move is the one returned.
+   *
+   * @return the depth in plies, or 0 if not even one ply was completed
+   */
+  public int getDepth() {
+    return depth;
+  }
+
+  /**
+   * Gets the number of positions visited, across every depth searched.
+   *
+   * @return the number of positions
+   */
+  public long getNodes() {
+    return nodes;
+  }
+
+  /**
+   * Gets how long the search took.
+   *
+   * @return the time in nanoseconds
+   */
+  public long getNanos() {
+    return nanos;
+  }
+
+  @Override
+  public String toString() {
+    return "depth " + depth + ", " + nodes + " nodes in " + nanos / 1_000_000 + " ms";
+  }
+}
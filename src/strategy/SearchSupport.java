@@ -0,0 +1,111 @@
+package strategy;
+
+import java.util.List;
+
+import model.BitboardGrid;
+import model.Card;
+import model.Cell;
+import model.CellImpl;
+import model.Grid;
+import model.GridFactory;
+import model.GridType;
+import model.Player;
+import model.PlayerImpl;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+
+/**
+ * Helpers shared by the look-ahead strategies for building private copies of a game that can
+ * be played forward without touching the real model.
+ */
+final class SearchSupport {
+
+  private SearchSupport() {
+    // static helpers only
+  }
+
+  /**
+   * Builds a private copy of the game where it is the given player's turn. The copy uses a
+   * bitboard grid and fresh players holding the same cards, in the same hand order.
+   *
+   * @param model  the model to copy
+   * @param player the player to move in the copy
+   * @return a model that can be played forward freely
+   */
+  static ThreeTriosGameModel sandboxOf(ReadOnlyGameModel model, Player player) {
+    Player opponent = player.equals(model.getPlayerRed())
+            ? model.getPlayerBlue() : model.getPlayerRed();
+    Player mover = copyOf(player.getColor(), player.getHand());
+    Player other = opponent == null
+            ? new PlayerImpl(oppositeColor(player.getColor()))
+            : copyOf(opponent.getColor(), opponent.getHand());
+
+    Grid grid = copyOf(model.getGrid(), player, mover, other);
+
+    boolean moverIsRed = "Red".equals(mover.getColor());
+    ThreeTriosGameModel sandbox = new ThreeTriosGameModel(grid, moverIsRed ? mover : other,
+            moverIsRed ? other : mover, mover);
+    // nothing else reads a sandbox, so it need not publish snapshots of every move it tries
+    sandbox.setPublishingStates(false);
+    return sandbox;
+  }
+
+  /**
+   * Score of the player to move minus the score of their opponent.
+   *
+   * @param state the state to evaluate
+   * @return the score difference from the point of view of the player to move
+   */
+  static int scoreDifference(ReadOnlyGameModel state) {
+    return state.getPlayerScore(state.getCurrentPlayer())
+            - state.getPlayerScore(state.getOpponentPlayer());
+  }
+
+  /**
+   * Counts the card cells without a card, from the cells each player owns.
+   *
+   * @param model the game to count the empty cells of
+   * @return the number of card cells still to be filled
+   */
+  static int emptyCells(ReadOnlyGameModel model) {
+    Grid grid = model.getGrid();
+    int empty = grid.getNumberOfCardCells();
+    if (model.getPlayerRed() != null) {
+      empty -= grid.getOwnedCellCount(model.getPlayerRed());
+    }
+    if (model.getPlayerBlue() != null) {
+      empty -= grid.getOwnedCellCount(model.getPlayerBlue());
+    }
+    return empty;
+  }
+
+  private static Grid copyOf(Grid source, Player player, Player mover, Player other) {
+    if (source instanceof BitboardGrid) {
+      // owners are matched by color, so the copy can keep referring to the original players
+      return ((BitboardGrid) source).copy();
+    }
+    Cell[][] cells = new Cell[source.getRows()][source.getCols()];
+    for (int row = 0; row < source.getRows(); row++) {
+      for (int col = 0; col < source.getCols(); col++) {
+        Cell cell = source.getCell(row, col);
+        cells[row][col] = new CellImpl(cell.isHole());
+        if (cell.isOccupied()) {
+          cells[row][col].placeCard(cell.getCard(), player.equals(cell.getOwner()) ? mover : other);
+        }
+      }
+    }
+    return GridFactory.createGrid(cells, GridType.BITBOARD);
+  }
+
+  private static Player copyOf(String color, List<Card> hand) {
+    Player copy = new PlayerImpl(color);
+    for (Card card : hand) {
+      copy.addCardToHand(card);
+    }
+    return copy;
+  }
+
+  private static String oppositeColor(String color) {
+    return "Red".equals(color) ? "Blue" : "Red";
+  }
+}
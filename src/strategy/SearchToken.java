@@ -0,0 +1,77 @@
+package strategy;
+
+/**
+ * Tells a running search when to stop: either its deadline has passed or someone has cancelled
+ * it. Strategies that search for a while poll shouldStop() and return the best move they have
+ * so far; quick strategies may ignore the token. A token can be cancelled from any thread.
+ */
+public final class SearchToken {
+  private static final SearchToken NONE = new SearchToken(Long.MAX_VALUE);
+
+  private final long deadline;
+  private volatile boolean cancelled;
+
+  private SearchToken(long deadline) {
+    this.deadline = deadline;
+  }
+
+  /**
+   * Gets a token that never expires and cannot be cancelled.
+   *
+   * @return the shared unbounded token
+   */
+  public static SearchToken none() {
+    return NONE;
+  }
+
+  /**
+   * Makes a token that expires the given time from now.
+   *
+   * @param millis how long the search may take, in milliseconds
+   * @return a new token
+   * @throws IllegalArgumentException if millis is not positive
+   */
+  public static SearchToken withTimeout(long millis) {
+    if (millis < 1) {
+      throw new IllegalArgumentException("Time budget must be positive.");
+    }
+    return new SearchToken(System.nanoTime() + millis * 1_000_000L);
+  }
+
+  /**
+   * Asks the search to stop as soon as it can. Has no effect on the token from none().
+   */
+  public void cancel() {
+    if (this != NONE) {
+      cancelled = true;
+    }
+  }
+
+  /**
+   * Tells whether cancel() has been called.
+   *
+   * @return whether the search was cancelled
+   */
+  public boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Tells whether the search should stop, because it was cancelled or its deadline has passed.
+   *
+   * @return whether to stop searching
+   */
+  public boolean shouldStop() {
+    return cancelled || (this != NONE && System.nanoTime() - deadline >= 0);
+  }
+
+  /**
+   * Gets the deadline in System.nanoTime() terms, or Long.MAX_VALUE for a token that never
+   * expires.
+   *
+   * @return the deadline
+   */
+  public long getDeadline() {
+    return deadline;
+  }
+}
@@ -0,0 +1,95 @@
+package strategy;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size hash table of previously searched positions, indexed by Zobrist key.
+ * Entries are stored in parallel primitive arrays; a newer entry replaces an older one in the
+ * same slot unless the older one was searched deeper for the same position.
+ */
+final class TranspositionTable {
+  static final byte EXACT = 0;
+  static final byte LOWER_BOUND = 1;
+  static final byte UPPER_BOUND = 2;
+
+  private final long[] keys;
+  private final int[] depths;
+  private final int[] values;
+  private final byte[] flags;
+  private final int[] moves;
+  private final int mask;
+
+  /**
+   * Creates a table with 2^sizeBits slots.
+   *
+   * @param sizeBits log2 of the number of slots
+   */
+  TranspositionTable(int sizeBits) {
+    if (sizeBits < 1 || sizeBits > 26) {
+      throw new IllegalArgumentException("Table size must be between 2^1 and 2^26 slots.");
+    }
+    int size = 1 << sizeBits;
+    this.keys = new long[size];
+    this.depths = new int[size];
+    this.values = new int[size];
+    this.flags = new byte[size];
+    this.moves = new int[size];
+    this.mask = size - 1;
+    clear();
+  }
+
+  /**
+   * Empties the table.
+   */
+  void clear() {
+    Arrays.fill(depths, -1);
+  }
+
+  /**
+   * Finds the slot holding the given position.
+   *
+   * @param key Zobrist key of the position
+   * @return the slot index, or -1 if the position is not stored
+   */
+  int find(long key) {
+    int slot = (int) (key ^ (key >>> 32)) & mask;
+    return depths[slot] >= 0 && keys[slot] == key ? slot : -1;
+  }
+
+  int depth(int slot) {
+    return depths[slot];
+  }
+
+  int value(int slot) {
+    return values[slot];
+  }
+
+  byte flag(int slot) {
+    return flags[slot];
+  }
+
+  int move(int slot) {
+    return moves[slot];
+  }
+
+  /**
+   * Stores the result of searching a position.
+   *
+   * @param key   Zobrist key of the position
+   * @param depth remaining depth the position was searched to
+   * @param value the value found
+   * @param flag  whether the value is exact, a lower bound or an upper bound
+   * @param move  the best move found, or -1 if none
+   */
+  void store(long key, int depth, int value, byte flag, int move) {
+    int slot = (int) (key ^ (key >>> 32)) & mask;
+    if (depths[slot] >= 0 && keys[slot] == key && depths[slot] > depth) {
+      return;
+    }
+    keys[slot] = key;
+    depths[slot] = depth;
+    values[slot] = value;
+    flags[slot] = flag;
+    moves[slot] = move;
+  }
+}
@@ -0,0 +1,193 @@
+package strategy;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import model.Card;
+import model.Cell;
+import model.Grid;
+import model.MoveRecorder;
+import model.Player;
+import model.ReadOnlyGameModel;
+
+/**
+ * Zobrist hashing over a game position: which card sits on which cell and who owns it, which
+ * cards remain in each hand, and whose turn it is. Every card seen in the root position is given
+ * an id, so the keys are only valid for positions reachable from that root.
+ */
+final class ZobristKeys {
+  private static final long SEED = 0x5DEECE66DL;
+
+  private final Map<Card, Integer> cardIds;
+  private final int cardCount;
+  private final long[] placed;
+  private final long[] inHand;
+  private final long blueToMove;
+
+  /**
+   * Creates keys for every card on the grid and in either hand of the root position.
+   *
+   * @param root the position the search starts from
+   */
+  ZobristKeys(ReadOnlyGameModel root) {
+    this.cardIds = new IdentityHashMap<>();
+    Grid grid = root.getGrid();
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < grid.getCols(); col++) {
+        Cell cell = grid.getCell(row, col);
+        if (cell.isOccupied()) {
+          register(cell.getCard());
+        }
+      }
+    }
+    for (Card card : root.getPlayerRed().getHand()) {
+      register(card);
+    }
+    for (Card card : root.getPlayerBlue().getHand()) {
+      register(card);
+    }
+
+    int cellCount = grid.getRows() * grid.getCols();
+    this.cardCount = cardIds.size();
+    Random random = new Random(SEED);
+    this.placed = new long[cellCount * cardCount * 2];
+    for (int i = 0; i < placed.length; i++) {
+      placed[i] = random.nextLong();
+    }
+    this.inHand = new long[cardCount * 2];
+    for (int i = 0; i < inHand.length; i++) {
+      inHand[i] = random.nextLong();
+    }
+    this.blueToMove = random.nextLong();
+  }
+
+  /**
+   * Computes the key of a position reachable from the root.
+   *
+   * @param state the position to hash
+   * @return the Zobrist key
+   */
+  long hash(ReadOnlyGameModel state) {
+    long key = 0;
+    Grid grid = state.getGrid();
+    int cols = grid.getCols();
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        Cell cell = grid.getCell(row, col);
+        if (cell.isOccupied()) {
+          int slot = (row * cols + col) * cardCount + idOf(cell.getCard());
+          key ^= placed[slot * 2 + side(cell.getOwner())];
+        }
+      }
+    }
+    key ^= handKey(state.getPlayerRed().getHand(), 0);
+    key ^= handKey(state.getPlayerBlue().getHand(), 1);
+    if (side(state.getCurrentPlayer()) == 1) {
+      key ^= blueToMove;
+    }
+    return key;
+  }
+
+  /**
+   * Starts following a search model, whose position must be reachable from the root.
+   *
+   * @param state the model to follow
+   * @return a tracker, to be set as the model's MoveRecorder
+   */
+  Tracker track(ReadOnlyGameModel state) {
+    return new Tracker(state);
+  }
+
+  private long handKey(List<Card> hand, int side) {
+    // summed rather than xor-ed so that two references to the same card do not cancel out
+    long key = 0;
+    for (Card card : hand) {
+      key += inHand[idOf(card) * 2 + side];
+    }
+    return key;
+  }
+
+  private void register(Card card) {
+    if (!cardIds.containsKey(card)) {
+      cardIds.put(card, cardIds.size());
+    }
+  }
+
+  private int idOf(Card card) {
+    Integer id = cardIds.get(card);
+    if (id == null) {
+      throw new IllegalStateException("Card was not part of the root position: "
+              + card.getName());
+    }
+    return id;
+  }
+
+  private static int side(Player player) {
+    return "Red".equals(player.getColor()) ? 0 : 1;
+  }
+
+  /**
+   * Keeps the key of a model up to date as moves are made with applyMove() and taken back with
+   * undoMove(), changing only the entries of the cells and card a move touches instead of
+   * hashing the whole position again.
+   */
+  final class Tracker implements MoveRecorder {
+    private final ReadOnlyGameModel state;
+    // the keys of the grid and turn, of Red's hand and of Blue's hand before each move made
+    private long[] previousKeys = new long[48];
+    private int depth;
+    private long boardKey;
+    private final long[] handKeys = new long[2];
+
+    private Tracker(ReadOnlyGameModel state) {
+      this.state = state;
+      this.handKeys[0] = handKey(state.getPlayerRed().getHand(), 0);
+      this.handKeys[1] = handKey(state.getPlayerBlue().getHand(), 1);
+      this.boardKey = hash(state) ^ handKeys[0] ^ handKeys[1];
+    }
+
+    /**
+     * Gets the key of the model's current position.
+     *
+     * @return the Zobrist key
+     */
+    long key() {
+      return boardKey ^ handKeys[0] ^ handKeys[1];
+    }
+
+    @Override
+    public void moveMade(boolean blue, int handIndex, int row, int col, int[] cells, int offset,
+                         int count) {
+      if (depth + 3 > previousKeys.length) {
+        previousKeys = Arrays.copyOf(previousKeys, previousKeys.length * 2);
+      }
+      previousKeys[depth++] = boardKey;
+      previousKeys[depth++] = handKeys[0];
+      previousKeys[depth++] = handKeys[1];
+      Grid grid = state.getGrid();
+      int cols = grid.getCols();
+      int side = blue ? 1 : 0;
+      if (handIndex >= 0) {
+        int card = idOf(grid.getCell(row, col).getCard());
+        boardKey ^= placed[((row * cols + col) * cardCount + card) * 2 + side];
+        handKeys[side] -= inHand[card * 2 + side];
+        boardKey ^= blueToMove; // applyMove passes the turn
+      }
+      for (int i = offset; i < offset + count; i++) {
+        int cell = cells[i];
+        int slot = (cell * cardCount + idOf(grid.getCell(cell / cols, cell % cols).getCard())) * 2;
+        boardKey ^= placed[slot + 1 - side] ^ placed[slot + side];
+      }
+    }
+
+    @Override
+    public void moveUndone() {
+      handKeys[1] = previousKeys[--depth];
+      handKeys[0] = previousKeys[--depth];
+      boardKey = previousKeys[--depth];
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package view;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Draws each distinct card face once into an image and keeps it, so that painting a card is one
+ * image copy instead of laying out and drawing its four values again. Faces are keyed by the
+ * painter that draws them, the card's packed values, the background colour of its owner, and
+ * its size and scale. When the kept images hold more pixels than the cache allows, the least
+ * recently used ones are dropped. The cache may be used from any thread.
+ */
+public final class CardImageCache {
+  /**
+   * The pixel budget of the shared cache, about 16 MB of ARGB images.
+   */
+  public static final long DEFAULT_MAX_PIXELS = 4L << 20;
+
+  private static final CardImageCache SHARED = new CardImageCache(DEFAULT_MAX_PIXELS);
+
+  /**
+   * Draws the face of a card in the given size, starting from a transparent image.
+   */
+  @FunctionalInterface
+  public interface CardPainter {
+    /**
+     * Draws one card face.
+     *
+     * @param g          graphics of the image, scaled so the face is width by height
+     * @param values     the card's values in the layout of Card.getPackedValues()
+     * @param background the owner's background colour, or null to leave it transparent
+     * @param width      width of the face
+     * @param height     height of the face
+     */
+    void paint(Graphics2D g, int values, Color background, int width, int height);
+  }
+
+  private final long maxPixels;
+  private final LinkedHashMap<Key, BufferedImage> images = new LinkedHashMap<>(64, 0.75f, true);
+  private long pixels;
+
+  /**
+   * Constructs an empty cache.
+   *
+   * @param maxPixels the most pixels the kept images may hold together
+   * @throws IllegalArgumentException if maxPixels is not positive
+   */
+  public CardImageCache(long maxPixels) {
+    if (maxPixels <= 0) {
+      throw new IllegalArgumentException("Pixel budget must be positive: " + maxPixels);
+    }
+    this.maxPixels = maxPixels;
+  }
+
+  /**
+   * Gets the cache shared by all card views.
+   *
+   * @return the shared cache
+   */
+  public static CardImageCache getShared() {
+    return SHARED;
+  }
+
+  /**
+   * Paints a card face at the origin of the given graphics, drawing it first if it is not kept.
+   * The face is drawn at the scale of the graphics, so it stays sharp on high-density screens.
+   *
+   * @param g          graphics to paint on
+   * @param painter    draws the face
+   * @param values     the card's packed values
+   * @param background the owner's background colour, or null for none
+   * @param width      width of the face
+   * @param height     height of the face
+   */
+  public void paintCard(Graphics g, CardPainter painter, int values, Color background,
+                        int width, int height) {
+    if (width <= 0 || height <= 0) {
+      return;
+    }
+    double scale = g instanceof Graphics2D
+            ? ((Graphics2D) g).getTransform().getScaleX() : 1.0;
+    g.drawImage(getImage(painter, values, background, width, height, scale),
+            0, 0, width, height, null);
+  }
+
+  /**
+   * Gets the image of a card face, drawing it if it is not kept. An image bigger than the whole
+   * budget is drawn every time and never kept.
+   *
+   * @param painter    draws the face
+   * @param values     the card's packed values
+   * @param background the owner's background colour, or null for none
+   * @param width      width of the face
+   * @param height     height of the face
+   * @param scale      how many image pixels make one unit of width and height
+   * @return the image, which must not be changed
+   * @throws IllegalArgumentException if the size or scale is not positive
+   */
+  public BufferedImage getImage(CardPainter painter, int values, Color background,
+                                int width, int height, double scale) {
+    if (width <= 0 || height <= 0 || !(scale > 0)) {
+      throw new IllegalArgumentException("Invalid card image size: " + width + "x" + height
+              + " at scale " + scale);
+    }
+    Key key = new Key(painter, values, background == null ? 0 : background.getRGB(),
+            width, height, scale);
+    synchronized (this) {
+      BufferedImage image = images.get(key);
+      if (image != null) {
+        return image;
+      }
+    }
+
+    // draw outside the lock; if two threads race, both images are the same picture
+    BufferedImage image = draw(key, background);
+    long imagePixels = (long) image.getWidth() * image.getHeight();
+    if (imagePixels > maxPixels) {
+      return image;
+    }
+    synchronized (this) {
+      BufferedImage previous = images.putIfAbsent(key, image);
+      if (previous != null) {
+        return previous;
+      }
+      pixels += imagePixels;
+      Iterator<Map.Entry<Key, BufferedImage>> eldest = images.entrySet().iterator();
+      while (pixels > maxPixels) {
+        BufferedImage evicted = eldest.next().getValue();
+        pixels -= (long) evicted.getWidth() * evicted.getHeight();
+        eldest.remove();
+      }
+    }
+    return image;
+  }
+
+  /**
+   * Gets the number of faces kept.
+   *
+   * @return the number of images in the cache
+   */
+  public synchronized int size() {
+    return images.size();
+  }
+
+  /**
+   * Gets the number of pixels the kept faces hold together.
+   *
+   * @return the pixels in the cache
+   */
+  public synchronized long getPixelCount() {
+    return pixels;
+  }
+
+  /**
+   * Drops every kept face.
+   */
+  public synchronized void clear() {
+    images.clear();
+    pixels = 0;
+  }
+
+  private static BufferedImage draw(Key key, Color background) {
+    int imageWidth = (int) Math.ceil(key.width * key.scale);
+    int imageHeight = (int) Math.ceil(key.height * key.scale);
+    BufferedImage image = new BufferedImage(imageWidth, imageHeight,
+            BufferedImage.TYPE_INT_ARGB);
+    Graphics2D g = image.createGraphics();
+    try {
+      g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+              RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+      g.scale(key.scale, key.scale);
+      key.painter.paint(g, key.values, background, key.width, key.height);
+    } finally {
+      g.dispose();
+    }
+    return image;
+  }
+
+  private static final class Key {
+    private final CardPainter painter;
+    private final int values;
+    private final int background;
+    private final int width;
+    private final int height;
+    private final double scale;
+
+    Key(CardPainter painter, int values, int background, int width, int height, double scale) {
+      this.painter = painter;
+      this.values = values;
+      this.background = background;
+      this.width = width;
+      this.height = height;
+      this.scale = scale;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return painter == key.painter && values == key.values && background == key.background
+              && width == key.width && height == key.height && scale == key.scale;
+    }
+
+    @Override
+    public int hashCode() {
+      int hash = System.identityHashCode(painter);
+      hash = 31 * hash + values;
+      hash = 31 * hash + background;
+      hash = 31 * hash + width;
+      hash = 31 * hash + height;
+      return 31 * hash + Double.hashCode(scale);
+    }
+  }
+}
@@ -1,58 +1,84 @@
 package view;
 
 import java.awt.Color;
+import java.awt.Dimension;
 import java.awt.Font;
-import java.awt.GridBagConstraints;
-import java.awt.GridBagLayout;
-import javax.swing.JLabel;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
 import javax.swing.JPanel;
 import model.Card;
+import model.Value;
 
 /**
  * A custom JPanel to display a card with its values on the north, south, east, and west sides.
+ * The face is drawn once per distinct card, colour and size by the shared CardImageCache, and
+ * every later repaint copies that image.
  */
 public class CardPanel extends JPanel {
+  private static final Font FONT = new Font("SansSerif", Font.BOLD, 12);
+  private static final Value[] VALUES = Value.values();
+  private static final CardImageCache.CardPainter PAINTER = CardPanel::paintFace;
+
+  private final int values;
+
   /**
    * Constructor for the CardPanel class which sets everything up.
    * @param card StandardCard.
    */
   public CardPanel(Card card) {
-    setLayout(new GridBagLayout());
+    this.values = card.getPackedValues();
     setBackground(Color.WHITE);
     setBorder(new javax.swing.border.LineBorder(Color.BLACK, 1));
 
-    Font font = new Font("SansSerif", Font.BOLD, 12);
-
-    // North Value
-    JLabel northLabel = new JLabel(card.getNorthValue().toString());
-    northLabel.setFont(font);
-    GridBagConstraints northConstraints = new GridBagConstraints();
-    northConstraints.gridx = 1;
-    northConstraints.gridy = 0;
-    add(northLabel, northConstraints);
-
-    // South Value
-    JLabel southLabel = new JLabel(card.getSouthValue().toString());
-    southLabel.setFont(font);
-    GridBagConstraints southConstraints = new GridBagConstraints();
-    southConstraints.gridx = 1;
-    southConstraints.gridy = 2;
-    add(southLabel, southConstraints);
-
-    // East Value
-    JLabel eastLabel = new JLabel(card.getEastValue().toString());
-    eastLabel.setFont(font);
-    GridBagConstraints eastConstraints = new GridBagConstraints();
-    eastConstraints.gridx = 2;
-    eastConstraints.gridy = 1;
-    add(eastLabel, eastConstraints);
-
-    // West Value
-    JLabel westLabel = new JLabel(card.getWestValue().toString());
-    westLabel.setFont(font);
-    GridBagConstraints westConstraints = new GridBagConstraints();
-    westConstraints.gridx = 0;
-    westConstraints.gridy = 1;
-    add(westLabel, westConstraints);
+    // big enough for the values laid out in a three by three grid, as labels would need
+    FontMetrics metrics = getFontMetrics(FONT);
+    setPreferredSize(new Dimension(faceWidth(metrics, values) + 2, 3 * metrics.getHeight() + 2));
+  }
+
+  @Override
+  protected void paintComponent(Graphics g) {
+    CardImageCache.getShared().paintCard(g, PAINTER, values,
+            isOpaque() ? getBackground() : null, getWidth(), getHeight());
+  }
+
+  /**
+   * Draws the west, middle and east columns of values in the centre of the face, the middle
+   * column holding north above south.
+   */
+  private static void paintFace(Graphics2D g, int values, Color background, int width,
+                                int height) {
+    if (background != null) {
+      g.setColor(background);
+      g.fillRect(0, 0, width, height);
+    }
+    g.setFont(FONT);
+    g.setColor(Color.BLACK);
+    FontMetrics metrics = g.getFontMetrics();
+    String north = text(values, 12);
+    String south = text(values, 8);
+    String east = text(values, 4);
+    String west = text(values, 0);
+    int westWidth = metrics.stringWidth(west);
+    int middleWidth = Math.max(metrics.stringWidth(north), metrics.stringWidth(south));
+    int rowHeight = metrics.getHeight();
+    int left = (width - faceWidth(metrics, values)) / 2;
+    int top = (height - 3 * rowHeight) / 2 + metrics.getAscent();
+    int middle = left + westWidth + middleWidth / 2;
+
+    g.drawString(north, middle - metrics.stringWidth(north) / 2, top);
+    g.drawString(west, left, top + rowHeight);
+    g.drawString(east, left + westWidth + middleWidth, top + rowHeight);
+    g.drawString(south, middle - metrics.stringWidth(south) / 2, top + 2 * rowHeight);
+  }
+
+  private static int faceWidth(FontMetrics metrics, int values) {
+    return metrics.stringWidth(text(values, 0))
+            + Math.max(metrics.stringWidth(text(values, 12)), metrics.stringWidth(text(values, 8)))
+            + metrics.stringWidth(text(values, 4));
+  }
+
+  private static String text(int values, int shift) {
+    return VALUES[((values >>> shift) & 0xF) - 1].toString();
   }
 }
@@ -14,12 +14,15 @@ import javax.swing.JPanel;
 
 import controller.Features;
 import model.Card;
-import model.Cell;
+import model.GameState;
 import model.Player;
 import model.ReadOnlyGameModel;
 
 /**
  * The view class of the Three Trios game, providing the visual interface for a player.
+ * The first update builds the grid and both hands; later updates compare the new snapshot with
+ * the last one drawn and only touch the cells whose card or owner changed and the hand slots
+ * that were added or removed, so a move on a large grid does not lay out every card again.
  */
 public class ThreeTriosView implements ThreeTriosViewInterface {
   private final ReadOnlyGameModel model;
@@ -30,6 +33,9 @@ public class ThreeTriosView implements ThreeTriosViewInterface {
   private JPanel leftHandPanel;
   private JPanel rightHandPanel;
   private CardPanel selectedCardPanel;
+  // the snapshot on screen, and the panel of each cell in row-major order
+  private GameState rendered;
+  private JPanel[] cellPanels;
 
   /**
    * Constructor for the ThreeTriosView and GUI.
@@ -49,8 +55,8 @@ public class ThreeTriosView implements ThreeTriosViewInterface {
     frame.setLayout(new BorderLayout());
 
     gridPanel = new JPanel();
-    leftHandPanel = new JPanel();
-    rightHandPanel = new JPanel();
+    leftHandPanel = new JPanel(new GridLayout(0, 1));
+    rightHandPanel = new JPanel(new GridLayout(0, 1));
 
     frame.add(gridPanel, BorderLayout.CENTER);
     frame.add(leftHandPanel, BorderLayout.WEST);
@@ -67,92 +73,161 @@ public class ThreeTriosView implements ThreeTriosViewInterface {
       throw new IllegalStateException("Player or model is not properly initialized.");
     }
 
-    String currentPlayerColor = model.getCurrentPlayer().getColor();
+    // draw everything from one snapshot, so a move made meanwhile cannot tear the picture
+    GameState state = model.getGameState();
+    if (state == null) {
+      throw new IllegalStateException("The game has not been set up yet.");
+    }
+    if (state == rendered) {
+      return;
+    }
+
+    String currentPlayerColor = state.getCurrentPlayer().getColor();
     frame.setTitle("Three Trios Game - " + player.getColor() +
             (player.getColor().equals(currentPlayerColor) ? " (Your Turn)" : " (Waiting)"));
 
-    gridPanel.removeAll();
-    setupGridPanel();
-    selectedCardPanel = null;
-
-    leftHandPanel.removeAll();
-    rightHandPanel.removeAll();
-    setupHandPanels();
-
-    frame.revalidate();
-    frame.repaint();
+    if (rendered == null || rendered.getRows() != state.getRows()
+            || rendered.getCols() != state.getCols()) {
+      setupGridPanel(state);
+    } else {
+      updateGridPanel(state);
+    }
+    clearSelection();
+    setupHandPanels(state);
+    rendered = state;
   }
 
 
-  private void setupGridPanel() {
-    int rows = model.getGrid().getRows();
-    int cols = model.getGrid().getCols();
+  private void setupGridPanel(GameState state) {
+    int rows = state.getRows();
+    int cols = state.getCols();
+    gridPanel.removeAll();
     gridPanel.setLayout(new GridLayout(rows, cols, 0, 0));
     gridPanel.setPreferredSize(new Dimension(500, 500));
+    cellPanels = new JPanel[rows * cols];
 
     for (int row = 0; row < rows; row++) {
       for (int col = 0; col < cols; col++) {
         JPanel cellPanel = new JPanel();
         cellPanel.setPreferredSize(new Dimension(100, 100));
         cellPanel.setBorder(BorderFactory.createLineBorder(Color.DARK_GRAY, 1));
-
-        Cell cell = model.getGrid().getCell(row, col);
-        if (cell.isHole()) {
-          cellPanel.setBackground(Color.GRAY);
-        } else if (cell.isOccupied()) {
-          Player owner = cell.getOwner();
-          cellPanel.setBackground(owner.getColor().equals("Red") ? Color.PINK : Color.CYAN);
-
-          Card card = cell.getCard();
-          CardPanel cardPanel = new CardPanel(card);
-          cardPanel.setOpaque(false);
-          cellPanel.add(cardPanel);
-        } else {
-          cellPanel.setBackground(Color.YELLOW);
-          if (model.getCurrentPlayer().equals(player)) {
-            cellPanel.addMouseListener(new CellClickListener(row, col));
-          }
+        if (!state.isHole(row, col)) {
+          cellPanel.addMouseListener(new CellClickListener(row, col));
         }
+        drawCell(cellPanel, state, row, col);
+        cellPanels[row * cols + col] = cellPanel;
         gridPanel.add(cellPanel);
       }
     }
+    gridPanel.revalidate();
+    gridPanel.repaint();
   }
 
+  /**
+   * Redraws the cells that differ from the last snapshot drawn. A card that only changed owner
+   * keeps its panel and just gets the new background.
+   */
+  private void updateGridPanel(GameState state) {
+    int cols = state.getCols();
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < cols; col++) {
+        JPanel cellPanel = cellPanels[row * cols + col];
+        if (state.getCardAt(row, col) != rendered.getCardAt(row, col)) {
+          drawCell(cellPanel, state, row, col);
+          cellPanel.revalidate();
+          cellPanel.repaint();
+        } else if (state.getOwnerAt(row, col) != rendered.getOwnerAt(row, col)) {
+          cellPanel.setBackground(cellColor(state, row, col));
+        }
+      }
+    }
+  }
 
-  private void setupHandPanels() {
-    Player currentPlayer = model.getCurrentPlayer();
-    Player playerRed = model.getPlayerRed();
-    Player playerBlue = model.getPlayerBlue();
+  private void drawCell(JPanel cellPanel, GameState state, int row, int col) {
+    cellPanel.removeAll();
+    cellPanel.setBackground(cellColor(state, row, col));
+    if (state.isOccupied(row, col)) {
+      CardPanel cardPanel = new CardPanel(state.getCardAt(row, col));
+      cardPanel.setOpaque(false);
+      cellPanel.add(cardPanel);
+    }
+  }
 
-    List<Card> playerRedHand = playerRed.getHand();
-    List<Card> playerBlueHand = playerBlue.getHand();
+  private Color cellColor(GameState state, int row, int col) {
+    if (state.isHole(row, col)) {
+      return Color.GRAY;
+    } else if (state.isOccupied(row, col)) {
+      return state.getOwnerAt(row, col).getColor().equals("Red") ? Color.PINK : Color.CYAN;
+    } else {
+      return Color.YELLOW;
+    }
+  }
 
-    // Left hand panel for red player
-    leftHandPanel.setLayout(new GridLayout(playerRedHand.size(), 1));
-    leftHandPanel.setPreferredSize(new Dimension(150, 150 * playerRedHand.size()));
-    boolean isRedTurn = currentPlayer.equals(playerRed);
 
-    for (Card card : playerRedHand) {
-      CardPanel cardPanel = new CardPanel(card);
-      cardPanel.setBackground(Color.PINK);
-      if (player.equals(playerRed) && isRedTurn && playerRed.isHuman()) {
-        cardPanel.addMouseListener(new CardClickListener(card, cardPanel));
-      }
-      leftHandPanel.add(cardPanel);
+  private void setupHandPanels(GameState state) {
+    Player playerRed = state.getPlayerRed();
+    Player playerBlue = state.getPlayerBlue();
+
+    // Left hand panel for red player, right hand panel for blue
+    List<Card> redBefore = List.of();
+    List<Card> blueBefore = List.of();
+    if (rendered != null && rendered.getPlayerRed() == playerRed
+            && rendered.getPlayerBlue() == playerBlue) {
+      redBefore = rendered.getHand(playerRed);
+      blueBefore = rendered.getHand(playerBlue);
+    } else {
+      leftHandPanel.removeAll();
+      rightHandPanel.removeAll();
     }
+    updateHandPanel(leftHandPanel, redBefore, state.getHand(playerRed), playerRed, Color.PINK);
+    updateHandPanel(rightHandPanel, blueBefore, state.getHand(playerBlue), playerBlue,
+            Color.CYAN);
+  }
 
-    // Right hand panel for blue
-    rightHandPanel.setLayout(new GridLayout(playerBlueHand.size(), 1));
-    rightHandPanel.setPreferredSize(new Dimension(150, 150 * playerBlueHand.size()));
-    boolean isBlueTurn = currentPlayer.equals(playerBlue);
+  /**
+   * Removes the panels of the cards that left the hand and adds panels for the cards that joined
+   * it. The cards both hands start and end with are kept, so placing or taking back one card
+   * touches one slot.
+   */
+  private void updateHandPanel(JPanel handPanel, List<Card> before, List<Card> after,
+                               Player handOwner, Color color) {
+    if (before == after) {
+      return;
+    }
+    int prefix = 0;
+    while (prefix < before.size() && prefix < after.size()
+            && before.get(prefix) == after.get(prefix)) {
+      prefix++;
+    }
+    int suffix = 0;
+    while (suffix < before.size() - prefix && suffix < after.size() - prefix
+            && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+      suffix++;
+    }
 
-    for (Card card : playerBlueHand) {
+    for (int i = before.size() - suffix - 1; i >= prefix; i--) {
+      handPanel.remove(i);
+    }
+    for (int i = prefix; i < after.size() - suffix; i++) {
+      Card card = after.get(i);
       CardPanel cardPanel = new CardPanel(card);
-      cardPanel.setBackground(Color.CYAN);
-      if (player.equals(playerBlue) && isBlueTurn && playerBlue.isHuman()) {
-        cardPanel.addMouseListener(new CardClickListener(card, cardPanel));
+      cardPanel.setBackground(color);
+      if (player.equals(handOwner) && handOwner.isHuman()) {
+        cardPanel.addMouseListener(new CardClickListener(card, cardPanel, handOwner));
       }
-      rightHandPanel.add(cardPanel);
+      handPanel.add(cardPanel, i);
+    }
+
+    ((GridLayout) handPanel.getLayout()).setRows(after.size());
+    handPanel.setPreferredSize(new Dimension(150, 150 * after.size()));
+    handPanel.revalidate();
+    handPanel.repaint();
+  }
+
+  private void clearSelection() {
+    if (selectedCardPanel != null) {
+      selectedCardPanel.setBorder(BorderFactory.createLineBorder(Color.BLACK, 1));
+      selectedCardPanel = null;
     }
   }
 
@@ -182,15 +257,18 @@ public class ThreeTriosView implements ThreeTriosViewInterface {
   private class CardClickListener extends MouseAdapter {
     private final Card card;
     private final CardPanel cardPanel;
+    private final Player handOwner;
 
-    public CardClickListener(Card card, CardPanel cardPanel) {
+    public CardClickListener(Card card, CardPanel cardPanel, Player handOwner) {
       this.card = card;
       this.cardPanel = cardPanel;
+      this.handOwner = handOwner;
     }
 
     @Override
     public void mouseClicked(MouseEvent e) {
-      if (features != null) {
+      // cards can only be picked from the hand of the player whose turn it is
+      if (features != null && rendered.getCurrentPlayer().equals(handOwner)) {
         features.cardSelected(card);
         if (selectedCardPanel != null) {
           selectedCardPanel.setBorder(null);
@@ -213,7 +291,9 @@ public class ThreeTriosView implements ThreeTriosViewInterface {
 
     @Override
     public void mouseClicked(MouseEvent e) {
-      if (features != null) {
+      // only empty cells take a card, and only on this player's turn
+      if (features != null && !rendered.isOccupied(row, col)
+              && rendered.getCurrentPlayer().equals(player)) {
         features.cellSelected(row, col);
       }
     }
@@ -0,0 +1,105 @@
+package adapters;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import controller.CardFileReaderImpl;
+import controller.GridFileReaderImpl;
+import model.Card;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+import provider.model.Cell;
+import provider.model.GameCard;
+import provider.model.PlayerColor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests that the adapters the model hands to the provider's view are reused until what they
+ * wrap changes.
+ */
+public class AdapterCacheTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    List<Card> cards = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    // no shuffle: Red holds CardA..CardE, Blue holds CardF..CardJ
+    model.initializeGame(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid1.txt")), cards, null);
+  }
+
+  @Test
+  public void testCellAdaptersAreReused() {
+    Cell cell = model.returnCell(1, 1);
+    assertSame(cell, model.returnCell(1, 1));
+    assertSame(cell, model.returnGridCopy().returnCell(1, 1));
+    assertNull(cell.returnFilledCellCard());
+
+    model.placeCard(playerRed, playerRed.getCardInHand(0), 1, 1);
+    assertSame(cell, model.returnCell(1, 1));
+    GameCard card = cell.returnFilledCellCard();
+    assertEquals("CardA", card.toString());
+    assertSame(card, model.returnCell(1, 1).returnFilledCellCard());
+
+    // CardJ takes CardA, so the cell holds the same card with a new owner
+    model.switchTurn();
+    model.placeCard(playerBlue, playerBlue.getCardInHand(4), 0, 1);
+    GameCard flipped = cell.returnFilledCellCard();
+    assertNotSame(card, flipped);
+    assertEquals(((GameCardAdapter) card).getCard(), ((GameCardAdapter) flipped).getCard());
+    assertSame(playerBlue, ((GameCardAdapter) flipped).getOwner());
+  }
+
+  @Test
+  public void testCardCellListIsReused() {
+    List<Cell> cells = model.returnGridCopy().cardCellList();
+    assertEquals(9, cells.size());
+    assertSame(cells, model.returnGridCopy().cardCellList());
+    assertSame(model.returnCell(2, 0), cells.get(6));
+    assertThrows(UnsupportedOperationException.class, () -> cells.remove(0));
+
+    model.placeCard(playerRed, playerRed.getCardInHand(0), 2, 0);
+    assertSame(cells, model.returnGridCopy().cardCellList());
+  }
+
+  @Test
+  public void testHandIsReusedUntilItChanges() {
+    List<GameCard> hand = model.returnPlayerHand(PlayerColor.RED);
+    assertEquals(5, hand.size());
+    assertSame(hand, model.returnPlayerHand(PlayerColor.RED));
+    assertSame(hand, model.currentTurn().retrieveHand());
+    assertThrows(UnsupportedOperationException.class, () -> hand.remove(0));
+
+    model.placeCard(playerRed, playerRed.getCardInHand(0), 0, 0);
+    List<GameCard> after = model.returnPlayerHand(PlayerColor.RED);
+    assertNotSame(hand, after);
+    assertEquals(4, after.size());
+    for (int i = 0; i < after.size(); i++) {
+      assertSame(hand.get(i + 1), after.get(i));
+    }
+  }
+
+  @Test
+  public void testPlayerAdaptersAreReused() {
+    assertSame(model.currentTurn(), model.currentTurn());
+    model.switchTurn();
+    assertSame(PlayerColor.BLUE, model.currentTurn().color());
+    assertSame(model.currentTurn(), model.currentTurn());
+  }
+}
@@ -0,0 +1,152 @@
+package controller;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import model.AIPlayer;
+import model.Card;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+import strategy.FlipMaxStrategy;
+import strategy.MinimaxStrategy;
+import strategy.MoveStrategy;
+import strategy.SearchToken;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that AiTurnRunner searches off the calling thread and plays the move on the view
+ * executor, and that a turn can be cut short or abandoned.
+ */
+public class AiTurnRunnerTest {
+  // stands in for the Swing event queue
+  private final BlockingQueue<Runnable> viewQueue = new LinkedBlockingQueue<>();
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private AiTurnRunner runner;
+
+  /**
+   * A strategy that searches until its token tells it to stop, then plays its first legal move.
+   */
+  private static class StubbornStrategy implements MoveStrategy {
+    private final CountDownLatch stopped = new CountDownLatch(1);
+
+    @Override
+    public Move determineMove(ReadOnlyGameModel model, Player player) {
+      throw new IllegalStateException("Needs a token.");
+    }
+
+    @Override
+    public Move determineMove(ReadOnlyGameModel model, Player player, SearchToken token) {
+      while (!token.shouldStop()) {
+        Thread.onSpinWait();
+      }
+      stopped.countDown();
+      return new FlipMaxStrategy().determineMove(model, player);
+    }
+  }
+
+  private AIPlayer setUpGame(MoveStrategy strategy) {
+    List<Card> cards = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    playerRed = new PlayerImpl("Red");
+    AIPlayer playerBlue = new AIPlayer("Blue", strategy);
+    model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    model.initializeGame(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid1.txt")), cards, null);
+    model.placeCard(playerRed, playerRed.getCardInHand(0), 1, 1);
+    model.switchTurn();
+    return playerBlue;
+  }
+
+  @Before
+  public void setUp() {
+    runner = new AiTurnRunner(viewQueue::add, 100);
+  }
+
+  @After
+  public void tearDown() {
+    runner.close();
+  }
+
+  @Test
+  public void testMoveIsPlayedOnTheViewExecutor() throws InterruptedException {
+    AIPlayer blue = setUpGame(new FlipMaxStrategy());
+    CountDownLatch finished = new CountDownLatch(1);
+    runner.startTurn(model, blue, finished::countDown);
+
+    Runnable play = viewQueue.poll(5, TimeUnit.SECONDS);
+    assertNotNull(play);
+    assertEquals(5, blue.getHandSize());
+    play.run();
+    assertEquals(4, blue.getHandSize());
+    assertEquals(0, finished.getCount());
+  }
+
+  @Test
+  public void testDeadlineStopsTheSearch() throws InterruptedException {
+    StubbornStrategy strategy = new StubbornStrategy();
+    AIPlayer blue = setUpGame(strategy);
+    runner.startTurn(model, blue, () -> { });
+
+    assertTrue(strategy.stopped.await(5, TimeUnit.SECONDS));
+    viewQueue.poll(5, TimeUnit.SECONDS).run();
+    assertEquals(4, blue.getHandSize());
+  }
+
+  @Test
+  public void testCancelledTurnPlaysNothing() throws InterruptedException {
+    runner.close();
+    runner = new AiTurnRunner(viewQueue::add, 60_000);
+    StubbornStrategy strategy = new StubbornStrategy();
+    AIPlayer blue = setUpGame(strategy);
+    SearchToken token = runner.startTurn(model, blue, () -> { });
+
+    runner.cancel();
+    assertTrue(token.isCancelled());
+    assertTrue(strategy.stopped.await(5, TimeUnit.SECONDS));
+    assertNull(viewQueue.poll(200, TimeUnit.MILLISECONDS));
+    assertEquals(5, blue.getHandSize());
+    assertSame(blue, model.getCurrentPlayer());
+
+    runner.close();
+    assertThrows(IllegalStateException.class, () -> runner.startTurn(model, blue, () -> { }));
+  }
+
+  @Test
+  public void testControllerHandsOpponentTurnToRunner() throws InterruptedException {
+    AIPlayer blue = setUpGame(new MinimaxStrategy());
+    model.switchTurn(); // back to Red, as if Blue had not been asked yet
+    MockThreeTriosView redView = new MockThreeTriosView();
+    MockThreeTriosView blueView = new MockThreeTriosView();
+    ThreeTriosController controller = new ThreeTriosController(
+            model, (PlayerImpl) playerRed, playerRed, redView, blueView, blue, runner);
+
+    controller.cardSelected(playerRed.getCardInHand(0));
+    controller.cellSelected(0, 0);
+    assertSame(blue, model.getCurrentPlayer());
+    assertEquals(5, blue.getHandSize());
+
+    viewQueue.poll(5, TimeUnit.SECONDS).run();
+    assertEquals(4, blue.getHandSize());
+    assertSame(playerRed, model.getCurrentPlayer());
+    assertEquals(2, redView.methodCalls.stream().filter("updateView"::equals).count());
+  }
+}
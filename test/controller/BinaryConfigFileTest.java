@@ -0,0 +1,122 @@
+package controller;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import model.BitboardGrid;
+import model.Card;
+import model.Grid;
+import model.GridType;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests writing the binary grid and card formats and reading them back.
+ */
+public class BinaryConfigFileTest {
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = File.createTempFile("config", ".bin");
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+  }
+
+  @Test
+  public void testGridsRoundTrip() throws IOException {
+    for (String name : new String[]{"grid1.txt", "grid2.txt", "grid3.txt", "grid4.txt",
+        "grid6.txt"}) {
+      Grid text = new GridFileReaderImpl().readGrid(new File("resources/grid_configs/" + name));
+      BinaryConfigWriter.writeGrid(text, file);
+      Grid binary = new BinaryGridFileReader().readGrid(file);
+
+      assertEquals(text.getRows(), binary.getRows());
+      assertEquals(text.getCols(), binary.getCols());
+      assertEquals(text.getNumberOfCardCells(), binary.getNumberOfCardCells());
+      for (int row = 0; row < text.getRows(); row++) {
+        for (int col = 0; col < text.getCols(); col++) {
+          assertEquals(name, text.getCell(row, col).isHole(), binary.getCell(row, col).isHole());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testGridTypeIsRespected() throws IOException {
+    BinaryConfigWriter.writeGrid(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid3.txt")), file);
+    assertTrue(new BinaryGridFileReader(GridType.BITBOARD).readGrid(file)
+            instanceof BitboardGrid);
+  }
+
+  @Test
+  public void testCardsRoundTrip() throws IOException {
+    List<Card> text = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards3.txt"));
+    BinaryConfigWriter.writeCards(text, file);
+    List<Card> binary = new BinaryCardFileReader().readCards(file);
+
+    assertEquals(text.size(), binary.size());
+    for (int i = 0; i < text.size(); i++) {
+      assertEquals(text.get(i).getName(), binary.get(i).getName());
+      assertEquals(text.get(i).getNorthValue(), binary.get(i).getNorthValue());
+      assertEquals(text.get(i).getSouthValue(), binary.get(i).getSouthValue());
+      assertEquals(text.get(i).getEastValue(), binary.get(i).getEastValue());
+      assertEquals(text.get(i).getWestValue(), binary.get(i).getWestValue());
+    }
+  }
+
+  @Test
+  public void testInvalidFiles() throws IOException {
+    // a text file is not a binary one
+    assertThrows(IllegalArgumentException.class, () -> new BinaryGridFileReader()
+            .readGrid(new File("resources/grid_configs/grid1.txt")));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryCardFileReader()
+            .readCards(new File("resources/card_configs/cards1.txt")));
+    assertThrows(IllegalArgumentException.class, () -> new BinaryGridFileReader()
+            .readGrid(new File("resources/grid_configs/missing.ttg")));
+    assertThrows(IllegalArgumentException.class, () ->
+            new BinaryGridFileReader().readGrid(file));
+
+    // one card, named "A", with a west value of 11
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      out.writeInt(BinaryConfigFormat.CARD_MAGIC);
+      out.writeInt(1);
+      out.writeInt(1);
+      out.writeInt(0);
+      out.writeShort(1);
+      out.writeShort(0x111B);
+      out.write('A');
+    }
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            new BinaryCardFileReader().readCards(file));
+    assertEquals("Invalid card value: 11 at card 1", e.getMessage());
+
+    // a name offset so large that adding the length overflows
+    try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+      out.writeInt(BinaryConfigFormat.CARD_MAGIC);
+      out.writeInt(1);
+      out.writeInt(1);
+      out.writeInt(Integer.MAX_VALUE);
+      out.writeShort(1);
+      out.writeShort(0x1111);
+      out.write('A');
+    }
+    e = assertThrows(IllegalArgumentException.class, () ->
+            new BinaryCardFileReader().readCards(file));
+    assertEquals("Invalid card name at card 1", e.getMessage());
+  }
+}
@@ -8,6 +8,7 @@ import java.util.Random;
 import model.Card;
 import model.Cell;
 import model.GameModel;
+import model.GameState;
 import model.Grid;
 import model.ModelStatusListener;
 import model.Player;
@@ -116,6 +117,16 @@ public class MockGameModel implements GameModel {
     return 0;
   }
 
+  @Override
+  public int getCascadeFlips(Player player, Card card, int row, int col) {
+    return 0;
+  }
+
+  @Override
+  public GameState getGameState() {
+    return null;
+  }
+
   @Override
   public int getPlayerScore(Player player) {
     return 0;
@@ -0,0 +1,93 @@
+package controller;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+import model.Card;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests that NioCardFileReader reads exactly what CardFileReaderImpl reads.
+ */
+public class NioCardFileReaderTest {
+  private final CardFileReader expected = new CardFileReaderImpl();
+  private final CardFileReader reader = new NioCardFileReader();
+  private File file;
+
+  @Before
+  public void setUp() throws IOException {
+    file = File.createTempFile("cards", ".txt");
+  }
+
+  @After
+  public void tearDown() {
+    file.delete();
+  }
+
+  private void assertSameResult(File cardFile) {
+    List<Card> cards;
+    try {
+      cards = expected.readCards(cardFile);
+    } catch (IllegalArgumentException e) {
+      IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () ->
+              reader.readCards(cardFile));
+      assertEquals(e.getMessage(), actual.getMessage());
+      return;
+    }
+    List<Card> actual = reader.readCards(cardFile);
+    assertEquals(cards.size(), actual.size());
+    for (int i = 0; i < cards.size(); i++) {
+      assertEquals(cards.get(i).getName(), actual.get(i).getName());
+      assertEquals(cards.get(i).getNorthValue(), actual.get(i).getNorthValue());
+      assertEquals(cards.get(i).getSouthValue(), actual.get(i).getSouthValue());
+      assertEquals(cards.get(i).getEastValue(), actual.get(i).getEastValue());
+      assertEquals(cards.get(i).getWestValue(), actual.get(i).getWestValue());
+    }
+  }
+
+  @Test
+  public void testResourceFiles() {
+    for (File cardFile : new File("resources/card_configs").listFiles()) {
+      assertSameResult(cardFile);
+    }
+  }
+
+  @Test
+  public void testLineEndingsAndBlankLines() throws IOException {
+    try (PrintWriter writer = new PrintWriter(file)) {
+      writer.print("First 1 2 3 4\r\n\r\n  Second\t5 6  7 8  \rThird A A A A");
+    }
+    assertSameResult(file);
+    assertEquals(3, reader.readCards(file).size());
+
+    try (PrintWriter writer = new PrintWriter(file)) {
+      writer.print("First 1 2 3 4\n\nSecond 5 6 7\n");
+    }
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            reader.readCards(file));
+    assertEquals("Invalid card format at line 3: Second 5 6 7", e.getMessage());
+  }
+
+  @Test
+  public void testLinesAcrossBufferBoundaries() throws IOException {
+    try (PrintWriter writer = new PrintWriter(file)) {
+      for (int i = 0; i < 20000; i++) {
+        writer.println("Card" + i + " " + (i % 9 + 1) + " A " + (8 - i % 8) + " 1");
+      }
+    }
+    assertSameResult(file);
+  }
+
+  @Test
+  public void testMissingFile() {
+    assertSameResult(new File("resources/card_configs/missing.txt"));
+  }
+}
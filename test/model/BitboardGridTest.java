@@ -0,0 +1,149 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import controller.CardFileReader;
+import controller.CardFileReaderImpl;
+import controller.GridFileReader;
+import controller.GridFileReaderImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the BitboardGrid implementation against the behaviour of the standard grid.
+ */
+public class BitboardGridTest {
+  private Grid grid;
+  private List<Card> cards;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    GridFileReader gridReader = new GridFileReaderImpl(GridType.BITBOARD);
+    CardFileReader cardReader = new CardFileReaderImpl();
+    grid = gridReader.readGrid(new File("resources/grid_configs/grid3.txt"));
+    cards = cardReader.readCards(new File("resources/card_configs/cards3.txt"));
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+  }
+
+  @Test
+  public void testFactoryCreatesBitboardGrid() {
+    assertTrue(grid instanceof BitboardGrid);
+    assertEquals(5, grid.getRows());
+    assertEquals(5, grid.getCols());
+  }
+
+  @Test
+  public void testNumberOfCardCellsMatchesStandardGrid() {
+    Grid standard = new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid3.txt"));
+    assertEquals(standard.getNumberOfCardCells(), grid.getNumberOfCardCells());
+    assertEquals(13, grid.getNumberOfCardCells());
+  }
+
+  @Test
+  public void testHolesAreNotPlayable() {
+    assertEquals(CellType.HOLE, grid.getCellType(0, 2));
+    assertTrue(grid.getCell(0, 2).isHole());
+    assertFalse(grid.isPlayable(0, 2));
+    assertTrue(grid.isPlayable(0, 0));
+  }
+
+  @Test
+  public void testPlaceCardUpdatesCellView() {
+    grid.placeCard(cards.get(0), 0, 0, playerRed);
+    Cell cell = grid.getCell(0, 0);
+    assertTrue(cell.isOccupied());
+    assertSame(cards.get(0), cell.getCard());
+    assertEquals(playerRed, cell.getOwner());
+    assertFalse(grid.isPlayable(0, 0));
+  }
+
+  @Test
+  public void testInvalidPlacements() {
+    grid.placeCard(cards.get(0), 0, 0, playerRed);
+    assertThrows(IllegalArgumentException.class, () ->
+            grid.placeCard(cards.get(1), 0, 0, playerBlue));
+    assertThrows(IllegalArgumentException.class, () ->
+            grid.placeCard(cards.get(1), 0, 2, playerBlue));
+    assertThrows(IllegalArgumentException.class, () ->
+            grid.placeCard(cards.get(1), 5, 5, playerBlue));
+    assertThrows(IllegalStateException.class, () ->
+            grid.getCell(1, 1).setOwner(playerBlue));
+  }
+
+  @Test
+  public void testOutOfBoundsCellsAreRejected() {
+    // (0, 5) would otherwise alias (1, 0), and (1, 5) the hole at (2, 0)
+    assertThrows(IllegalArgumentException.class, () -> grid.getCell(0, 5));
+    assertThrows(IllegalArgumentException.class, () -> grid.getCellType(1, 5));
+    assertThrows(IllegalArgumentException.class, () -> grid.getCell(-1, 0));
+    assertThrows(IllegalArgumentException.class, () -> grid.getCellType(5, 0));
+  }
+
+  @Test
+  public void testOwnedCellCountFollowsFlips() {
+    grid.placeCard(cards.get(0), 0, 0, playerRed);
+    grid.placeCard(cards.get(1), 0, 1, playerBlue);
+    assertEquals(1, grid.getOwnedCellCount(playerRed));
+    assertEquals(1, grid.getOwnedCellCount(playerBlue));
+
+    grid.getCell(0, 1).setOwner(playerRed);
+    assertEquals(2, grid.getOwnedCellCount(playerRed));
+    assertEquals(0, grid.getOwnedCellCount(playerBlue));
+  }
+
+  @Test
+  public void testIsFull() {
+    int placed = 0;
+    for (int row = 0; row < grid.getRows(); row++) {
+      for (int col = 0; col < grid.getCols(); col++) {
+        if (grid.isPlayable(row, col)) {
+          assertFalse(grid.isFull());
+          grid.placeCard(cards.get(placed++), row, col, playerRed);
+        }
+      }
+    }
+    assertTrue(grid.isFull());
+    assertEquals(13, grid.getOwnedCellCount(playerRed));
+  }
+
+  @Test
+  public void testCopyIsIndependent() {
+    grid.placeCard(cards.get(0), 0, 0, playerRed);
+    BitboardGrid copy = ((BitboardGrid) grid).copy();
+    copy.placeCard(cards.get(1), 0, 1, playerBlue);
+    copy.getCell(0, 0).setOwner(playerBlue);
+
+    assertFalse(grid.getCell(0, 1).isOccupied());
+    assertNull(grid.getCell(0, 1).getOwner());
+    assertEquals(playerRed, grid.getCell(0, 0).getOwner());
+    assertEquals(2, copy.getOwnedCellCount(playerBlue));
+  }
+
+  @Test
+  public void testGameOnBitboardGrid() {
+    Grid smallGrid = new GridFileReaderImpl(GridType.BITBOARD)
+            .readGrid(new File("resources/grid_configs/grid1.txt"));
+    ThreeTriosGameModel model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    model.initializeGame(smallGrid, cards, null);
+
+    model.placeCard(playerRed, playerRed.getHand().get(0), 1, 1);
+    model.switchTurn();
+    assertEquals(5, model.getPlayerScore(playerRed));
+    assertEquals(5, model.getPlayerScore(playerBlue));
+    assertEquals("Game is not over yet.", model.getWinner());
+  }
+}
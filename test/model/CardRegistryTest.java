@@ -0,0 +1,90 @@
+package model;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import adapters.GameCardAdapter;
+import adapters.PlayerAdapter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that cards are interned by CardRegistry and compared through their packed values.
+ */
+public class CardRegistryTest {
+  private static final Value[] VALUES = Value.values();
+
+  @Test
+  public void testIdenticalCardsShareOneInstance() {
+    Card first = CardFactory.createCard("Dragon", Value.A, Value.ONE, Value.FIVE, Value.NINE);
+    Card second = CardFactory.createCard("Dragon", Value.A, Value.ONE, Value.FIVE, Value.NINE);
+    assertSame(first, second);
+    assertSame(first, CardRegistry.intern("Dragon", 0xA159));
+
+    assertNotSame(first,
+            CardFactory.createCard("Dragon", Value.A, Value.ONE, Value.FIVE, Value.EIGHT));
+    assertNotSame(first,
+            CardFactory.createCard("Wyvern", Value.A, Value.ONE, Value.FIVE, Value.NINE));
+  }
+
+  @Test
+  public void testPackedValues() {
+    Card card = CardFactory.createCard("Knight", Value.TWO, Value.A, Value.SEVEN, Value.ONE);
+    assertEquals(0x2A71, card.getPackedValues());
+    assertEquals(Value.TWO, card.getNorthValue());
+    assertEquals(Value.A, card.getSouthValue());
+    assertEquals(Value.SEVEN, card.getEastValue());
+    assertEquals(Value.ONE, card.getWestValue());
+    assertEquals("Knight", card.getName());
+  }
+
+  @Test
+  public void testInvalidPackedValues() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            CardRegistry.intern("Broken", 0x1B11));
+    assertEquals("Invalid card value: 11", e.getMessage());
+    assertThrows(IllegalArgumentException.class, () -> CardRegistry.intern("Broken", 0x1101));
+    assertThrows(IllegalArgumentException.class, () -> CardRegistry.intern("Broken", 0x11111));
+  }
+
+  @Test
+  public void testCompareAgainstMatchesValues() {
+    for (Value attack : VALUES) {
+      for (Value defence : VALUES) {
+        Card attacker = CardFactory.createCard("Attacker", attack, attack, attack, attack);
+        Card defender = CardFactory.createCard("Defender", defence, defence, defence, defence);
+        boolean expected = attack.getIntValue() > defence.getIntValue();
+        for (Direction direction : Direction.values()) {
+          assertEquals(expected, attacker.compareAgainst(defender, direction));
+        }
+      }
+    }
+
+    Card attacker = CardFactory.createCard("Attacker", Value.FIVE, Value.SIX, Value.SEVEN,
+            Value.EIGHT);
+    Card defender = CardFactory.createCard("Defender", Value.SIX, Value.FOUR, Value.EIGHT,
+            Value.SIX);
+    assertTrue(attacker.compareAgainst(defender, Direction.NORTH)); // 5 against south 4
+    assertFalse(attacker.compareAgainst(defender, Direction.SOUTH)); // 6 against north 6
+    assertTrue(attacker.compareAgainst(defender, Direction.EAST)); // 7 against west 6
+    assertFalse(attacker.compareAgainst(defender, Direction.WEST)); // 8 against east 8
+  }
+
+  @Test
+  public void testAdaptedCardsAreFoundInHand() {
+    Card card = CardFactory.createCard("Goblin", Value.THREE, Value.FOUR, Value.ONE, Value.TWO);
+    Player player = new PlayerImpl("Red");
+    player.addCardToHand(card);
+    PlayerAdapter adapter = new PlayerAdapter(player);
+
+    adapter.removeCardFromHand(new GameCardAdapter(card, player));
+    List<Card> hand = player.getHand();
+    assertTrue(hand.isEmpty());
+  }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import strategy.FlipMaxStrategy;
+
+import static model.ComboGameFixture.card;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the cascade-aware flip count of ThreeTriosGameModel and FlipMaxStrategy's cascade mode.
+ */
+public class CascadeFlipsTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = ComboGameFixture.newGame(playerRed, playerBlue);
+    model.applyMove(new Move(card(playerRed, "CardE"), 0, 0));  // 6 6 6 6
+    model.applyMove(new Move(card(playerBlue, "CardH"), 2, 2)); // 1 1 1 1
+    model.applyMove(new Move(card(playerRed, "CardB"), 0, 1));  // 2 2 2 2
+  }
+
+  @Test
+  public void testCountsComboFlips() {
+    // CardG flips CardE, which then flips CardB in the combo step
+    Card cardG = card(playerBlue, "CardG");
+    assertEquals(1, model.getPotentialFlips(playerBlue, cardG, 1, 0));
+    assertEquals(2, model.getCascadeFlips(playerBlue, cardG, 1, 0));
+
+    assertFalse(model.getCellAt(1, 0).isOccupied());
+    assertEquals(playerRed, model.getCardOwnerAt(0, 0));
+    assertEquals(playerRed, model.getCardOwnerAt(0, 1));
+    assertEquals(4, playerBlue.getHand().size());
+  }
+
+  @Test
+  public void testMatchesBattlePhase() {
+    List<Card> hand = playerBlue.getHand();
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        for (Card card : hand) {
+          int expected = model.getCascadeFlips(playerBlue, card, row, col);
+          if (!model.isLegalMove(playerBlue, row, col)) {
+            assertEquals(0, expected);
+            continue;
+          }
+          int before = model.getOwnedCellCount(playerBlue);
+          model.applyMove(new Move(card, row, col));
+          assertEquals(expected, model.getOwnedCellCount(playerBlue) - before - 1);
+          model.undoMove();
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testFlipMaxCascadeModePicksLargestCascade() {
+    Move move = new FlipMaxStrategy(true).determineMove(model, playerBlue);
+    int best = model.getCascadeFlips(playerBlue, move.getCard(), move.getRow(), move.getCol());
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        for (Card card : playerBlue.getHand()) {
+          assertTrue(model.getCascadeFlips(playerBlue, card, row, col) <= best);
+        }
+      }
+    }
+    assertEquals(2, best);
+  }
+}
@@ -0,0 +1,51 @@
+package model;
+
+import java.io.File;
+import java.util.List;
+
+import controller.CardFileReaderImpl;
+import controller.GridFileReaderImpl;
+
+/**
+ * The game the model tests play: the 3x3 grid of grid1.txt and the cards of
+ * cards_for_combo.txt, dealt without a shuffle, so that Red holds CardA..CardE and Blue holds
+ * CardF..CardJ.
+ */
+final class ComboGameFixture {
+  private ComboGameFixture() {
+  }
+
+  /**
+   * Starts a new game between the given players, Red to move.
+   *
+   * @param playerRed  the red player
+   * @param playerBlue the blue player
+   * @return the started game
+   */
+  static ThreeTriosGameModel newGame(Player playerRed, Player playerBlue) {
+    List<Card> cards = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    ThreeTriosGameModel model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    model.initializeGame(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid1.txt")), cards, null);
+    return model;
+  }
+
+  /**
+   * Finds a card in a player's hand by name.
+   *
+   * @param player the player holding the card
+   * @param name   the card's name
+   * @return the card
+   * @throws IllegalArgumentException if the player holds no card of that name
+   */
+  static Card card(Player player, String name) {
+    for (Card card : player.getHand()) {
+      if (card.getName().equals(name)) {
+        return card;
+      }
+    }
+    throw new IllegalArgumentException("No card named " + name);
+  }
+}
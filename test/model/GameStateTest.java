@@ -0,0 +1,156 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static model.ComboGameFixture.card;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the snapshots ThreeTriosGameModel publishes as a game is played.
+ */
+public class GameStateTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = ComboGameFixture.newGame(playerRed, playerBlue);
+  }
+
+  @Test
+  public void testInitialSnapshot() {
+    GameState state = model.getGameState();
+    assertEquals(3, state.getRows());
+    assertEquals(3, state.getCols());
+    assertSame(playerRed, state.getCurrentPlayer());
+    assertEquals(playerRed.getHand(), state.getHand(playerRed));
+    assertEquals(5, state.getPlayerScore(playerBlue));
+    assertFalse(state.isOccupied(1, 1));
+    assertFalse(state.isGameOver());
+  }
+
+  @Test
+  public void testSnapshotIsNotAffectedByLaterMoves() {
+    GameState before = model.getGameState();
+    model.placeCard(playerRed, card(playerRed, "CardA"), 1, 1);
+    model.switchTurn();
+
+    assertFalse(before.isOccupied(1, 1));
+    assertEquals(5, before.getHand(playerRed).size());
+    assertSame(playerRed, before.getCurrentPlayer());
+
+    GameState after = model.getGameState();
+    assertEquals("CardA", after.getCardAt(1, 1).getName());
+    assertSame(playerRed, after.getOwnerAt(1, 1));
+    assertEquals(4, after.getHand(playerRed).size());
+    assertSame(playerBlue, after.getCurrentPlayer());
+    assertEquals(before.getVersion() + 2, after.getVersion());
+  }
+
+  @Test
+  public void testUnchangedHandIsShared() {
+    GameState before = model.getGameState();
+    model.placeCard(playerRed, card(playerRed, "CardA"), 0, 0);
+    GameState placed = model.getGameState();
+    model.switchTurn();
+    GameState switched = model.getGameState();
+
+    assertSame(before.getHand(playerBlue), placed.getHand(playerBlue));
+    assertSame(placed.getHand(playerRed), switched.getHand(playerRed));
+    assertSame(playerBlue, switched.getCurrentPlayer());
+  }
+
+  @Test
+  public void testComboFlipsAndUndo() {
+    model.applyMove(new Move(card(playerRed, "CardE"), 0, 0));  // 6 6 6 6
+    model.applyMove(new Move(card(playerBlue, "CardH"), 2, 2)); // 1 1 1 1
+    model.applyMove(new Move(card(playerRed, "CardB"), 0, 1));  // 2 2 2 2
+    GameState before = model.getGameState();
+
+    // CardG flips CardE, which then flips CardB in the combo step
+    model.applyMove(new Move(card(playerBlue, "CardG"), 1, 0)); // 8 8 8 8
+    GameState flipped = model.getGameState();
+    assertSame(playerBlue, flipped.getOwnerAt(0, 0));
+    assertSame(playerBlue, flipped.getOwnerAt(0, 1));
+    assertEquals(4, flipped.getOwnedCellCount(playerBlue));
+    assertSame(playerRed, before.getOwnerAt(0, 1));
+
+    model.undoMove();
+    GameState undone = model.getGameState();
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        assertSame(before.getCardAt(row, col), undone.getCardAt(row, col));
+        assertSame(before.getOwnerAt(row, col), undone.getOwnerAt(row, col));
+      }
+    }
+    assertEquals(before.getHand(playerBlue), undone.getHand(playerBlue));
+    assertEquals(before.getPlayerScore(playerRed), undone.getPlayerScore(playerRed));
+    assertSame(playerBlue, undone.getCurrentPlayer());
+  }
+
+  @Test
+  public void testSnapshotsStayConsistentForConcurrentReaders() throws InterruptedException {
+    AtomicReference<String> failure = new AtomicReference<>();
+    Thread reader = new Thread(() -> {
+      while (!Thread.currentThread().isInterrupted()) {
+        GameState state = model.getGameState();
+        int cells = 0;
+        for (int row = 0; row < state.getRows(); row++) {
+          for (int col = 0; col < state.getCols(); col++) {
+            cells += state.isOccupied(row, col) ? 1 : 0;
+          }
+        }
+        // every card is either in a hand or on the grid
+        int total = state.getPlayerScore(playerRed) + state.getPlayerScore(playerBlue);
+        if (total != 10 || cells != 10 - state.getHand(playerRed).size()
+                - state.getHand(playerBlue).size()) {
+          failure.set("Torn snapshot at version " + state.getVersion());
+        }
+      }
+    });
+    reader.start();
+
+    Random random = new Random(3);
+    for (int game = 0; game < 200; game++) {
+      while (!model.isGameOver()) {
+        Player mover = model.getCurrentPlayer();
+        List<Card> hand = mover.getHand();
+        int row;
+        int col;
+        do {
+          row = random.nextInt(3);
+          col = random.nextInt(3);
+        } while (!model.isLegalMove(mover, row, col));
+        model.applyMove(new Move(hand.get(random.nextInt(hand.size())), row, col));
+      }
+      assertTrue(model.getGameState().isGameOver());
+      while (model.getUndoableMoveCount() > 0) {
+        model.undoMove();
+      }
+    }
+    reader.interrupt();
+    reader.join();
+    assertNull(failure.get());
+  }
+
+  @Test
+  public void testInvalidQueries() {
+    GameState state = model.getGameState();
+    assertThrows(IllegalArgumentException.class, () -> state.getCardAt(3, 0));
+    assertThrows(IllegalArgumentException.class, () -> state.getHand(new PlayerImpl("Green")));
+    assertNull(new ThreeTriosGameModel().getGameState());
+  }
+}
@@ -0,0 +1,166 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that ThreeTriosGameModel delivers its events to every listener in order, on a queue of
+ * the listener's own.
+ */
+public class ModelStatusListenerTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  /**
+   * Records every event it receives as a line of text.
+   */
+  private static class RecordingListener implements ModelStatusListener {
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+
+    @Override
+    public void turnChanged(Player currentPlayer) {
+      events.add("turnChanged " + currentPlayer.getColor());
+    }
+
+    @Override
+    public void gameOver(String result) {
+      events.add("gameOver " + result);
+    }
+
+    @Override
+    public void cardPlaced(Player player, Card card, int row, int col) {
+      events.add("cardPlaced " + player.getColor() + " " + card.getName() + " " + row + ","
+              + col);
+    }
+
+    @Override
+    public void cellsFlipped(Player newOwner, int[][] cells) {
+      StringBuilder event = new StringBuilder("cellsFlipped " + newOwner.getColor());
+      for (int[] cell : cells) {
+        event.append(" ").append(cell[0]).append(",").append(cell[1]);
+      }
+      events.add(event.toString());
+    }
+
+    String next() throws InterruptedException {
+      return events.poll(5, TimeUnit.SECONDS);
+    }
+  }
+
+  @Before
+  public void setUp() {
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = ComboGameFixture.newGame(playerRed, playerBlue);
+  }
+
+  private void playCardAAndCardJ() {
+    model.placeCard(playerRed, playerRed.getCardInHand(0), 1, 1);
+    model.switchTurn();
+    // CardJ takes CardA from the cell above it
+    model.placeCard(playerBlue, playerBlue.getCardInHand(4), 0, 1);
+    model.switchTurn();
+  }
+
+  @Test
+  public void testEventsArriveInOrder() throws InterruptedException {
+    RecordingListener listener = new RecordingListener();
+    model.addModelStatusListener(listener, Runnable::run);
+    model.startGame();
+    playCardAAndCardJ();
+
+    assertEquals("turnChanged Red", listener.next());
+    assertEquals("cardPlaced Red CardA 1,1", listener.next());
+    assertEquals("turnChanged Blue", listener.next());
+    assertEquals("cardPlaced Blue CardJ 0,1", listener.next());
+    assertEquals("cellsFlipped Blue 1,1", listener.next());
+    assertEquals("turnChanged Red", listener.next());
+    assertTrue(listener.events.isEmpty());
+  }
+
+  @Test
+  public void testSlowListenerDoesNotHoldUpMovesOrOtherListeners()
+          throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    RecordingListener slow = new RecordingListener() {
+      @Override
+      public void turnChanged(Player currentPlayer) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        super.turnChanged(currentPlayer);
+      }
+    };
+    RecordingListener fast = new RecordingListener();
+    model.addModelStatusListener(slow);
+    model.addModelStatusListener(fast);
+
+    playCardAAndCardJ();
+    assertEquals("cardPlaced Red CardA 1,1", fast.next());
+    assertEquals("turnChanged Blue", fast.next());
+    assertEquals("cardPlaced Blue CardJ 0,1", fast.next());
+    assertEquals("cellsFlipped Blue 1,1", fast.next());
+    assertEquals("turnChanged Red", fast.next());
+
+    assertEquals("cardPlaced Red CardA 1,1", slow.next());
+    assertTrue(slow.events.isEmpty());
+    release.countDown();
+    assertEquals("turnChanged Blue", slow.next());
+    assertEquals("cardPlaced Blue CardJ 0,1", slow.next());
+    assertEquals("cellsFlipped Blue 1,1", slow.next());
+    assertEquals("turnChanged Red", slow.next());
+  }
+
+  @Test
+  public void testGameOverAfterLastMove() throws InterruptedException {
+    RecordingListener listener = new RecordingListener();
+    model.addModelStatusListener(listener, Runnable::run);
+    int[][] cells = {{0, 0}, {0, 1}, {0, 2}, {1, 0}, {1, 1}, {1, 2}, {2, 0}, {2, 1}, {2, 2}};
+    for (int[] cell : cells) {
+      Player player = model.getCurrentPlayer();
+      model.placeCard(player, player.getCardInHand(0), cell[0], cell[1]);
+      model.switchTurn();
+    }
+
+    String last = null;
+    String event;
+    while ((event = listener.events.poll()) != null) {
+      assertFalse(last != null && last.startsWith("gameOver"));
+      last = event;
+    }
+    assertEquals("gameOver " + model.getWinner(), last);
+  }
+
+  @Test
+  public void testRemovedAndFailingListeners() throws InterruptedException {
+    RecordingListener removed = new RecordingListener();
+    RecordingListener failing = new RecordingListener() {
+      @Override
+      public void cardPlaced(Player player, Card card, int row, int col) {
+        throw new IllegalStateException("listener bug");
+      }
+    };
+    model.addModelStatusListener(removed, Runnable::run);
+    model.addModelStatusListener(failing, Runnable::run);
+    assertTrue(model.removeModelStatusListener(removed));
+    assertFalse(model.removeModelStatusListener(removed));
+
+    model.placeCard(playerRed, playerRed.getCardInHand(0), 1, 1);
+    model.switchTurn();
+    assertNull(removed.events.poll());
+    assertEquals("turnChanged Blue", failing.next());
+  }
+}
@@ -0,0 +1,129 @@
+package model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static model.ComboGameFixture.card;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the applyMove and undoMove methods of ThreeTriosGameModel.
+ */
+public class MoveUndoTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = ComboGameFixture.newGame(playerRed, playerBlue);
+  }
+
+  @Test
+  public void testApplyMoveSwitchesTurn() {
+    model.applyMove(new Move(card(playerRed, "CardA"), 1, 1));
+    assertEquals(playerBlue, model.getCurrentPlayer());
+    assertEquals(playerRed, model.getCardOwnerAt(1, 1));
+    assertEquals(4, playerRed.getHand().size());
+    assertEquals(1, model.getUndoableMoveCount());
+  }
+
+  @Test
+  public void testUndoRestoresCellHandAndTurn() {
+    List<Card> handBefore = playerRed.getHand();
+    model.applyMove(new Move(card(playerRed, "CardC"), 0, 2));
+    model.undoMove();
+
+    assertFalse(model.getCellAt(0, 2).isOccupied());
+    assertEquals(handBefore, playerRed.getHand());
+    assertEquals(playerRed, model.getCurrentPlayer());
+    assertEquals(0, model.getUndoableMoveCount());
+  }
+
+  @Test
+  public void testUndoRevertsComboFlips() {
+    model.applyMove(new Move(card(playerRed, "CardE"), 0, 0));  // 6 6 6 6
+    model.applyMove(new Move(card(playerBlue, "CardH"), 2, 2)); // 1 1 1 1
+    model.applyMove(new Move(card(playerRed, "CardB"), 0, 1));  // 2 2 2 2
+    List<Card> blueHand = playerBlue.getHand();
+
+    // CardG flips CardE, which then flips CardB in the combo step
+    model.applyMove(new Move(card(playerBlue, "CardG"), 1, 0)); // 8 8 8 8
+    assertEquals(playerBlue, model.getCardOwnerAt(0, 0));
+    assertEquals(playerBlue, model.getCardOwnerAt(0, 1));
+    assertEquals(4, model.getPlayerScore(playerBlue) - playerBlue.getHand().size());
+
+    model.undoMove();
+    assertEquals(playerRed, model.getCardOwnerAt(0, 0));
+    assertEquals(playerRed, model.getCardOwnerAt(0, 1));
+    assertFalse(model.getCellAt(1, 0).isOccupied());
+    assertEquals(blueHand, playerBlue.getHand());
+    assertEquals(playerBlue, model.getCurrentPlayer());
+  }
+
+  @Test
+  public void testUndoAllMovesRestoresStart() {
+    model.applyMove(new Move(card(playerRed, "CardA"), 0, 0));
+    model.applyMove(new Move(card(playerBlue, "CardJ"), 0, 1));
+    model.applyMove(new Move(card(playerRed, "CardC"), 1, 1));
+    while (model.getUndoableMoveCount() > 0) {
+      model.undoMove();
+    }
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        assertFalse(model.getCellAt(row, col).isOccupied());
+      }
+    }
+    assertEquals("CardA", playerRed.getHand().get(0).getName());
+    assertEquals("CardJ", playerBlue.getHand().get(4).getName());
+    assertEquals(5, model.getPlayerScore(playerRed));
+  }
+
+  @Test
+  public void testInvalidMoves() {
+    assertThrows(IllegalStateException.class, () -> model.undoMove());
+    assertThrows(IllegalArgumentException.class, () ->
+            model.applyMove(new Move(card(playerBlue, "CardF"), 0, 0)));
+    model.applyMove(new Move(card(playerRed, "CardA"), 0, 0));
+    assertThrows(IllegalArgumentException.class, () ->
+            model.applyMove(new Move(card(playerBlue, "CardF"), 0, 0)));
+  }
+
+  @Test
+  public void testOwnedCellCountsMatchGrid() {
+    Random random = new Random(5);
+    while (!model.isGameOver()) {
+      Player mover = model.getCurrentPlayer();
+      List<Card> hand = mover.getHand();
+      int row;
+      int col;
+      do {
+        row = random.nextInt(3);
+        col = random.nextInt(3);
+      } while (!model.isLegalMove(mover, row, col));
+      model.applyMove(new Move(hand.get(random.nextInt(hand.size())), row, col));
+      assertOwnedCellCountsMatchGrid();
+    }
+    while (model.getUndoableMoveCount() > 0) {
+      model.undoMove();
+      assertOwnedCellCountsMatchGrid();
+    }
+    assertEquals(0, model.getOwnedCellCount(playerRed));
+    assertEquals(5, model.getPlayerScore(playerBlue));
+  }
+
+  private void assertOwnedCellCountsMatchGrid() {
+    Grid grid = model.getGrid();
+    assertEquals(grid.getOwnedCellCount(playerRed), model.getOwnedCellCount(playerRed));
+    assertEquals(grid.getOwnedCellCount(playerBlue), model.getOwnedCellCount(playerBlue));
+    assertEquals(playerRed.getHand().size() + grid.getOwnedCellCount(playerRed),
+            model.getPlayerScore(playerRed));
+  }
+}
@@ -7,6 +7,7 @@ import java.util.Random;
 import model.Card;
 import model.Cell;
 import model.GameModel;
+import model.GameState;
 import model.Grid;
 import model.ModelStatusListener;
 import model.Player;
@@ -99,6 +100,18 @@ public class MockGameModel implements GameModel {
     return potentialFlipsResult;
   }
 
+  @Override
+  public int getCascadeFlips(Player player, Card card, int row, int col) {
+    methodCalls.add("getCascadeFlips: " + player.getColor() + ", " + card.getName() + ", " +
+            "(" + row + "," + col + ")");
+    return potentialFlipsResult;
+  }
+
+  @Override
+  public GameState getGameState() {
+    return null;
+  }
+
   @Override
   public int getPlayerScore(Player player) {
     return 0;
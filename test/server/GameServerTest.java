@@ -0,0 +1,187 @@
+package server;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import controller.CardFileReaderImpl;
+import controller.Features;
+import controller.GridFileReaderImpl;
+import model.Card;
+import model.GameState;
+import model.Grid;
+import model.Player;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests GameServer by playing many games at once over the loopback transport.
+ */
+public class GameServerTest {
+  private GameServer server;
+  private List<Card> deck;
+
+  @Before
+  public void setUp() {
+    server = new GameServer(4);
+    deck = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+  }
+
+  @After
+  public void tearDown() {
+    server.close();
+  }
+
+  private Grid grid() {
+    return new GridFileReaderImpl().readGrid(new File("resources/grid_configs/grid1.txt"));
+  }
+
+  @Test
+  public void testManyConcurrentGamesFinish() throws InterruptedException {
+    int games = 200;
+    CountDownLatch finished = new CountDownLatch(games);
+    for (int i = 0; i < games; i++) {
+      Bot red = new Bot("Red", finished);
+      Bot blue = new Bot("Blue", finished);
+      GameSession session = server.openSession(grid(), new ArrayList<>(deck), new Random(i),
+              red, blue);
+      red.seat = session.getRedSeat();
+      blue.seat = session.getBlueSeat();
+      session.start();
+    }
+    assertTrue(finished.await(30, TimeUnit.SECONDS));
+    assertEquals(games * 9, server.getMovesPlayed());
+    assertEquals(games, server.getSessionCount());
+  }
+
+  @Test
+  public void testSelectionsAreCheckedInOrder() throws InterruptedException {
+    Recorder red = new Recorder(2);
+    Recorder blue = new Recorder(1);
+    GameSession session = server.openSession(grid(), new ArrayList<>(deck), null, red, blue);
+    Card redCard = session.getGameState().getHand(session.getGameState().getPlayerRed()).get(0);
+
+    session.getBlueSeat().cellSelected(0, 0);
+    session.getRedSeat().cellSelected(0, 0);
+    session.getRedSeat().cardSelected(redCard);
+    session.getRedSeat().cellSelected(0, 0);
+    session.getRedSeat().cardSelected(redCard);
+    red.await();
+    blue.await();
+
+    assertEquals(List.of("It's not your turn!"), blue.rejections);
+    assertEquals(List.of("No card selected.", "It's not your turn!"), red.rejections);
+    GameState state = session.getGameState();
+    assertEquals(redCard, state.getCardAt(0, 0));
+    assertEquals("Blue", state.getCurrentPlayer().getColor());
+    assertEquals(1, server.getMovesPlayed());
+  }
+
+  @Test
+  public void testClosedSessionIsRemoved() {
+    GameSession session = server.openSession(grid(), new ArrayList<>(deck), null,
+            new Recorder(0), new Recorder(0));
+    assertEquals(session, server.getSession(session.getId()));
+    server.closeSession(session.getId());
+    assertTrue(session.isClosed());
+    assertNull(server.getSession(session.getId()));
+    assertEquals(0, server.getSessionCount());
+  }
+
+  @Test
+  public void testInvalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new GameServer(0));
+    assertThrows(IllegalArgumentException.class, () ->
+            server.openSession(grid(), new ArrayList<>(deck), null, null, new Recorder(0)));
+    assertThrows(IllegalArgumentException.class, () ->
+            server.openSession(grid(), deck.subList(0, 5), null, new Recorder(0),
+                    new Recorder(0)));
+  }
+
+  /**
+   * Plays the first card in hand on the uppermost-leftmost open cell whenever it is its turn.
+   */
+  private static final class Bot implements SessionListener {
+    private final String color;
+    private final CountDownLatch finished;
+    private Features seat;
+
+    Bot(String color, CountDownLatch finished) {
+      this.color = color;
+      this.finished = finished;
+    }
+
+    @Override
+    public void stateChanged(GameState state) {
+      Player current = state.getCurrentPlayer();
+      if (state.isGameOver() || !current.getColor().equals(color)) {
+        return;
+      }
+      for (int row = 0; row < state.getRows(); row++) {
+        for (int col = 0; col < state.getCols(); col++) {
+          if (!state.isHole(row, col) && !state.isOccupied(row, col)) {
+            seat.cardSelected(state.getHand(current).get(0));
+            seat.cellSelected(row, col);
+            return;
+          }
+        }
+      }
+    }
+
+    @Override
+    public void selectionRejected(String message) {
+      throw new IllegalStateException(message);
+    }
+
+    @Override
+    public void gameOver(String result) {
+      if (color.equals("Red")) {
+        finished.countDown();
+      }
+    }
+  }
+
+  /**
+   * Records the rejections it is sent.
+   */
+  private static final class Recorder implements SessionListener {
+    private final List<String> rejections = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch expected;
+
+    Recorder(int expectedRejections) {
+      this.expected = new CountDownLatch(expectedRejections);
+    }
+
+    @Override
+    public void stateChanged(GameState state) {
+      // only rejections are checked
+    }
+
+    @Override
+    public void selectionRejected(String message) {
+      rejections.add(message);
+      expected.countDown();
+    }
+
+    @Override
+    public void gameOver(String result) {
+      // games in these tests are not played to the end
+    }
+
+    void await() throws InterruptedException {
+      assertTrue(expected.await(5, TimeUnit.SECONDS));
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package simulation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import controller.CardFileReaderImpl;
+import controller.GridFileReaderImpl;
+import model.Card;
+import model.Grid;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+import strategy.CornerStrategy;
+import strategy.FlipMaxStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the layout of journalled games and that a journal only ever grows.
+ */
+public class GameJournalTest {
+  private Path file;
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+  private Grid grid;
+  private List<Card> deck;
+
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempFile("journal", ".ttj");
+    Files.delete(file);
+    deck = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    grid = new GridFileReaderImpl().readGrid(new File("resources/grid_configs/grid1.txt"));
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void testMovesAreRecordedWithTheCellsTheyFlip() throws IOException {
+    try (GameJournal journal = new GameJournal(file)) {
+      GameJournal.Recording recording = journal.startGame(42, grid, deck);
+      model.setMoveRecorder(recording);
+      // no shuffle: Red holds CardA..CardE, Blue holds CardF..CardJ
+      model.initializeGame(grid, List.copyOf(deck), null);
+      model.placeCard(playerRed, playerRed.getCardInHand(0), 1, 1);
+      model.switchTurn();
+      // CardJ takes CardA from the cell above it
+      model.placeCard(playerBlue, playerBlue.getCardInHand(4), 0, 1);
+      recording.finish();
+      assertThrows(IllegalStateException.class, recording::finish);
+    }
+
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+    assertEquals(4 + JournalFormat.GAME_HEADER_BYTES + 2 * 6, bytes.remaining());
+    assertEquals(JournalFormat.JOURNAL_MAGIC, bytes.getInt());
+    assertEquals(42, bytes.getLong());
+    assertEquals(JournalFormat.gridHash(grid), bytes.getLong());
+    assertEquals(JournalFormat.deckHash(deck), bytes.getLong());
+    assertEquals(3, bytes.get());
+    assertEquals(3, bytes.get());
+    assertEquals(2, bytes.getInt());
+
+    // Red's CardA from hand slot 0 at (1,1), flipping nothing
+    assertEquals(0, bytes.get());
+    assertEquals(0, bytes.get());
+    assertEquals(1, bytes.get());
+    assertEquals(1, bytes.get());
+    assertEquals(0, bytes.getShort());
+    // Blue's CardJ from hand slot 4 at (0,1), flipping cell 4
+    assertEquals(JournalFormat.BLUE, bytes.get());
+    assertEquals(4, bytes.get());
+    assertEquals(0, bytes.get());
+    assertEquals(1, bytes.get());
+    assertEquals(1 << 4, bytes.get());
+    assertEquals(0, bytes.get());
+  }
+
+  @Test
+  public void testUndoneMovesAndLoneBattlesAreRecorded() throws IOException {
+    try (GameJournal journal = new GameJournal(file)) {
+      GameJournal.Recording recording = journal.startGame(0, grid, deck);
+      model.setMoveRecorder(recording);
+      model.initializeGame(grid, List.copyOf(deck), null);
+      model.applyMove(new Move(playerRed.getCardInHand(2), 0, 0));
+      model.applyMove(new Move(playerBlue.getCardInHand(0), 0, 1));
+      assertEquals(2, recording.getMoveCount());
+      model.undoMove();
+      assertEquals(1, recording.getMoveCount());
+      model.executeBattlePhase(0, 0);
+      assertEquals(2, recording.getMoveCount());
+      recording.finish();
+    }
+
+    ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+    bytes.position(4 + JournalFormat.GAME_HEADER_BYTES + 6);
+    assertEquals(0, bytes.get());
+    assertEquals((byte) JournalFormat.NO_CARD, bytes.get());
+    assertEquals(0, bytes.get());
+    assertEquals(0, bytes.get());
+  }
+
+  @Test
+  public void testReopenedJournalAppends() throws IOException {
+    for (int session = 0; session < 2; session++) {
+      try (GameJournal journal = new GameJournal(file, 1)) {
+        journal.startGame(session, grid, deck).finish();
+        journal.startGame(session, grid, deck).finish();
+        assertEquals(2, journal.getGameCount());
+      }
+    }
+    assertEquals(4 + 4 * JournalFormat.GAME_HEADER_BYTES, Files.size(file));
+
+    Files.write(file, new byte[] {1, 2, 3, 4, 5});
+    assertThrows(IllegalArgumentException.class, () -> new GameJournal(file));
+    assertThrows(IllegalArgumentException.class, () -> new GameJournal(file.resolveSibling(
+            "other.ttj"), 0));
+  }
+
+  @Test
+  public void testTournamentRecordsEveryGame() throws IOException {
+    File gridFile = new File("resources/grid_configs/grid1.txt");
+    File cardFile = new File("resources/card_configs/cards3.txt");
+    TournamentRunner runner = new TournamentRunner(gridFile, cardFile, FlipMaxStrategy::new,
+            CornerStrategy::new, 3);
+    TournamentResult recorded;
+    try (GameJournal journal = new GameJournal(file)) {
+      recorded = runner.run(30, 5, journal);
+      assertEquals(30, journal.getGameCount());
+    }
+    assertEquals(runner.run(30, 5).toString(), recorded.toString());
+
+    // every game on grid1 fills its nine cells, six bytes a move
+    assertEquals(4 + 30 * (JournalFormat.GAME_HEADER_BYTES + 9 * 6), Files.size(file));
+    try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+      assertEquals(JournalFormat.JOURNAL_MAGIC, in.readInt());
+      in.skipBytes(JournalFormat.GAME_HEADER_BYTES - Integer.BYTES);
+      assertEquals(9, in.readInt());
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package simulation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import controller.GridFileReaderImpl;
+import controller.NioCardFileReader;
+import model.BitboardGrid;
+import model.Card;
+import model.Direction;
+import model.GameState;
+import model.GridType;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ReadOnlyGameModel;
+import model.ThreeTriosGameModel;
+import strategy.CornerStrategy;
+import strategy.FlipMaxStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests reading journals back game by game and replaying their moves through the model.
+ */
+public class GameReplayTest {
+  private static final File GRID = new File("resources/grid_configs/grid1.txt");
+  private static final File CARDS = new File("resources/card_configs/cards3.txt");
+
+  private Path file;
+  private BitboardGrid grid;
+  private List<Card> deck;
+
+  @Before
+  public void setUp() throws IOException {
+    file = Files.createTempFile("replay", ".ttj");
+    Files.delete(file);
+    grid = (BitboardGrid) new GridFileReaderImpl(GridType.BITBOARD).readGrid(GRID);
+    deck = new NioCardFileReader().readCards(CARDS);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  private void playTournament(int games) throws IOException {
+    try (GameJournal journal = new GameJournal(file)) {
+      new TournamentRunner(GRID, CARDS, FlipMaxStrategy::new, CornerStrategy::new, 2)
+              .run(games, 11, journal);
+    }
+  }
+
+  private static String owners(ReadOnlyGameModel model) {
+    StringBuilder owners = new StringBuilder();
+    for (int row = 0; row < model.getGridRows(); row++) {
+      for (int col = 0; col < model.getGridCols(); col++) {
+        Player owner = model.getCardOwnerAt(row, col);
+        owners.append(owner == null ? '_' : owner.getColor().charAt(0));
+      }
+    }
+    return owners.toString();
+  }
+
+  private static String owners(GameState state) {
+    StringBuilder owners = new StringBuilder();
+    for (int row = 0; row < state.getRows(); row++) {
+      for (int col = 0; col < state.getCols(); col++) {
+        Player owner = state.getOwnerAt(row, col);
+        owners.append(owner == null ? '_' : owner.getColor().charAt(0));
+      }
+    }
+    return owners.toString();
+  }
+
+  @Test
+  public void testEveryGameReplaysToItsEnd() throws IOException {
+    playTournament(20);
+    GameReplay replay = new GameReplay(grid, deck);
+    int games = 0;
+    try (JournalReader reader = new JournalReader(file)) {
+      while (reader.next()) {
+        replay.load(reader);
+        replay.replayAll();
+        assertEquals(9, replay.getPosition());
+        assertTrue(replay.getModel().isGameOver());
+        games++;
+      }
+    }
+    assertEquals(20, games);
+  }
+
+  @Test
+  public void testSeekingMatchesPlayingFromTheStart() throws IOException {
+    playTournament(8);
+    try (JournalReader reader = new JournalReader(file)) {
+      assertTrue(reader.seekGame(5));
+      assertTrue(reader.next());
+      assertEquals(5, reader.getGameIndex());
+
+      GameReplay stepped = new GameReplay(grid, deck);
+      stepped.load(reader);
+      String[] positions = new String[10];
+      positions[0] = owners(stepped.getModel());
+      for (int move = 1; move <= 9; move++) {
+        stepped.step();
+        positions[move] = owners(stepped.getModel());
+      }
+      assertThrows(IllegalStateException.class, stepped::step);
+
+      GameReplay sought = new GameReplay(grid, deck, 3);
+      sought.load(reader);
+      for (int target : new int[] {9, 2, 7, 0, 6, 5, 9, 4}) {
+        sought.seek(target);
+        assertEquals(target, sought.getPosition());
+        assertEquals(positions[target], owners(sought.getModel()));
+      }
+      assertThrows(IllegalArgumentException.class, () -> sought.seek(10));
+    }
+  }
+
+  @Test
+  public void testChangedJournalIsCaught() throws IOException {
+    playTournament(1);
+    byte[] bytes = Files.readAllBytes(file);
+    // claim that Red's first card flipped every cell
+    int mask = Integer.BYTES + JournalFormat.GAME_HEADER_BYTES + JournalFormat.MOVE_HEADER_BYTES;
+    bytes[mask] = (byte) 0xFF;
+    Files.write(file, bytes);
+
+    try (JournalReader reader = new JournalReader(file)) {
+      assertTrue(reader.next());
+      GameReplay replay = new GameReplay(grid, deck);
+      replay.load(reader);
+      assertThrows(IllegalStateException.class, replay::step);
+
+      List<Card> otherDeck = deck.subList(1, deck.size());
+      assertThrows(IllegalArgumentException.class, () ->
+              new GameReplay(grid, otherDeck).load(reader));
+    }
+
+    Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+    try (JournalReader reader = new JournalReader(file)) {
+      assertThrows(IllegalStateException.class, reader::next);
+    }
+  }
+
+  @Test
+  public void testSeekGameUsesAndFillsTheIndex() throws IOException {
+    int games = JournalReader.INDEX_INTERVAL * 2 + 100;
+    try (GameJournal journal = new GameJournal(file)) {
+      for (int game = 0; game < games; game++) {
+        journal.startGame(game, grid, deck).finish();
+      }
+    }
+
+    try (JournalReader reader = new JournalReader(file)) {
+      for (long target : new long[] {games - 1, 5, JournalReader.INDEX_INTERVAL + 3, 0,
+          games - 50}) {
+        assertTrue(reader.seekGame(target));
+        assertTrue(reader.next());
+        assertEquals(target, reader.getGameIndex());
+        assertEquals(target, reader.getSeed());
+      }
+      assertFalse(reader.seekGame(games));
+      assertFalse(reader.next());
+      assertFalse(reader.seekGame(games + 10));
+    }
+  }
+
+  @Test
+  public void testKeyframeAfterBattleOnlyStepKeepsItsFlips() throws IOException {
+    // find a deal where Blue holds a card that Red's first card beats, but that does not beat it
+    long seed = 0;
+    ThreeTriosGameModel model;
+    int weaker;
+    while (true) {
+      model = new ThreeTriosGameModel();
+      model.setPlayers(new PlayerImpl("Red"), new PlayerImpl("Blue"));
+      model.initializeGame(grid.copy(), new ArrayList<>(deck), new Random(seed));
+      Card strong = model.getPlayerRed().getCardInHand(0);
+      weaker = -1;
+      for (int card = 0; card < model.getPlayerBlue().getHandSize(); card++) {
+        Card candidate = model.getPlayerBlue().getCardInHand(card);
+        if (strong.compareAgainst(candidate, Direction.EAST)
+                && !candidate.compareAgainst(strong, Direction.WEST)) {
+          weaker = card;
+          break;
+        }
+      }
+      if (weaker >= 0) {
+        break;
+      }
+      seed++;
+    }
+
+    try (GameJournal journal = new GameJournal(file)) {
+      GameJournal.Recording recording = journal.startGame(seed, grid, deck);
+      model.setMoveRecorder(recording);
+      Player red = model.getPlayerRed();
+      Player blue = model.getPlayerBlue();
+      model.applyMove(new Move(red.getCardInHand(0), 0, 0));
+      model.applyMove(new Move(blue.getCardInHand(weaker), 0, 1));
+      // Blue's card survived its own battle phase, so only a battle run on its own flips it
+      model.executeBattlePhase(0, 0);
+      assertEquals(red, model.getCardOwnerAt(0, 1));
+      assertEquals(owners(model), owners(model.getGameState()));
+      model.applyMove(new Move(red.getCardInHand(0), 2, 2));
+      model.applyMove(new Move(blue.getCardInHand(0), 2, 0));
+      recording.finish();
+    }
+
+    try (JournalReader reader = new JournalReader(file)) {
+      assertTrue(reader.next());
+      assertEquals(-1, reader.getHandIndex(2));
+      GameReplay stepped = new GameReplay(grid, deck);
+      stepped.load(reader);
+      String[] positions = new String[6];
+      positions[0] = owners(stepped.getModel());
+      for (int move = 1; move <= 5; move++) {
+        stepped.step();
+        positions[move] = owners(stepped.getModel());
+      }
+
+      // the keyframe every three moves is taken right after the battle phase
+      GameReplay sought = new GameReplay(grid, deck, 3);
+      sought.load(reader);
+      sought.replayAll();
+      for (int target : new int[] {3, 5, 4, 3}) {
+        sought.seek(target);
+        assertEquals(positions[target], owners(sought.getModel()));
+      }
+    }
+  }
+}
@@ -0,0 +1,59 @@
+package simulation;
+
+import org.junit.Test;
+
+import java.io.File;
+
+import strategy.CornerStrategy;
+import strategy.FlipMaxStrategy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests the headless tournament runner.
+ */
+public class TournamentRunnerTest {
+  private static final File GRID = new File("resources/grid_configs/grid1.txt");
+  private static final File CARDS = new File("resources/card_configs/cards3.txt");
+
+  @Test
+  public void testCountsAddUp() {
+    TournamentResult result = new TournamentRunner(GRID, CARDS, FlipMaxStrategy::new,
+            CornerStrategy::new, 2).run(50, 1);
+    assertEquals(50, result.getGames());
+    assertEquals(50, result.getFirstWins() + result.getSecondWins() + result.getTies());
+  }
+
+  @Test
+  public void testResultDoesNotDependOnThreadCount() {
+    TournamentResult single = new TournamentRunner(GRID, CARDS, FlipMaxStrategy::new,
+            CornerStrategy::new, 1).run(40, 7);
+    TournamentResult parallel = new TournamentRunner(GRID, CARDS, FlipMaxStrategy::new,
+            CornerStrategy::new, 4).run(40, 7);
+    assertEquals(single.toString(), parallel.toString());
+  }
+
+  @Test
+  public void testMergeAndSingleGame() {
+    TournamentResult result = TournamentResult.ofGame(3).merge(TournamentResult.ofGame(-1))
+            .merge(TournamentResult.ofGame(0));
+    assertEquals(3, result.getGames());
+    assertEquals(1, result.getFirstWins());
+    assertEquals(1, result.getSecondWins());
+    assertEquals(1, result.getTies());
+    assertEquals(2, result.getTotalMargin());
+    assertEquals(3, result.getLargestWin());
+    assertEquals(1, result.getLargestLoss());
+  }
+
+  @Test
+  public void testInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new TournamentRunner(GRID, CARDS,
+            FlipMaxStrategy::new, CornerStrategy::new, 0));
+    assertThrows(IllegalArgumentException.class, () -> new TournamentRunner(
+            new File("missing.txt"), CARDS, FlipMaxStrategy::new, CornerStrategy::new, 1));
+    assertThrows(IllegalArgumentException.class, () -> new TournamentRunner(GRID, CARDS,
+            FlipMaxStrategy::new, CornerStrategy::new, 1).run(-1, 0));
+  }
+}
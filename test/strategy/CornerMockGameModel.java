@@ -7,6 +7,7 @@ import java.util.Set;
 
 import model.Card;
 import model.Cell;
+import model.GameState;
 import model.Grid;
 import model.Player;
 import model.ReadOnlyGameModel;
@@ -95,6 +96,20 @@ public class CornerMockGameModel implements ReadOnlyGameModel {
     return 0;
   }
 
+  /**
+   * Gets the potential flips for a move, combo steps included.
+   */
+  public int getCascadeFlips(Player player, Card card, int row, int col) {
+    return getPotentialFlips(player, card, row, col);
+  }
+
+  /**
+   * The mock keeps no snapshots.
+   */
+  public GameState getGameState() {
+    return null;
+  }
+
 
   /**
    * Retrieves all inspected coordinates.
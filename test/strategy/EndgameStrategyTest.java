@@ -0,0 +1,164 @@
+package strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import controller.CardFileReaderImpl;
+import controller.GridFileReaderImpl;
+import model.Card;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the endgame solver against a plain search of every line of play.
+ */
+public class EndgameStrategyTest {
+  private List<Card> deck;
+
+  @Before
+  public void setUp() {
+    deck = new CardFileReaderImpl().readCards(new File("resources/card_configs/cards3.txt"));
+  }
+
+  /**
+   * Deals a shuffled game on the 3x3 grid and plays random moves until the given number of
+   * cells are empty.
+   */
+  private ThreeTriosGameModel randomPosition(long seed, int emptyCells) {
+    ThreeTriosGameModel model = new ThreeTriosGameModel();
+    model.setPlayers(new PlayerImpl("Red"), new PlayerImpl("Blue"));
+    Random random = new Random(seed);
+    model.initializeGame(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid1.txt")), new ArrayList<>(deck), random);
+    for (int played = 0; played < 9 - emptyCells; played++) {
+      Player mover = model.getCurrentPlayer();
+      List<int[]> cells = new ArrayList<>();
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 3; col++) {
+          if (model.isLegalMove(mover, row, col)) {
+            cells.add(new int[] {row, col});
+          }
+        }
+      }
+      int[] cell = cells.get(random.nextInt(cells.size()));
+      model.applyMove(new Move(mover.getCardInHand(random.nextInt(mover.getHandSize())),
+              cell[0], cell[1]));
+    }
+    return model;
+  }
+
+  /**
+   * Plays every line to the end without pruning or memory.
+   */
+  private static int bruteForce(ThreeTriosGameModel state) {
+    if (state.isGameOver()) {
+      return SearchSupport.scoreDifference(state);
+    }
+    Player mover = state.getCurrentPlayer();
+    int best = Integer.MIN_VALUE;
+    for (int row = 0; row < state.getGridRows(); row++) {
+      for (int col = 0; col < state.getGridCols(); col++) {
+        if (!state.isLegalMove(mover, row, col)) {
+          continue;
+        }
+        for (int card = 0; card < mover.getHandSize(); card++) {
+          state.applyMove(new Move(mover.getCardInHand(card), row, col));
+          best = Math.max(best, -bruteForce(state));
+          state.undoMove();
+        }
+      }
+    }
+    return best;
+  }
+
+  @Test
+  public void testSolvedMovesAreOptimal() {
+    for (long seed = 0; seed < 12; seed++) {
+      ThreeTriosGameModel model = randomPosition(seed, 5);
+      Player mover = model.getCurrentPlayer();
+      EndgameStrategy strategy = new EndgameStrategy(new FlipMaxStrategy(), 5);
+      Move move = strategy.determineMove(model, mover);
+      assertTrue(strategy.isLastMoveSolved());
+
+      ThreeTriosGameModel check = SearchSupport.sandboxOf(model, mover);
+      int optimal = bruteForce(check);
+      assertEquals("seed " + seed, optimal, strategy.getLastValue());
+      check.applyMove(new Move(move.getCard(), move.getRow(), move.getCol()));
+      assertEquals("seed " + seed, optimal, -bruteForce(check));
+    }
+  }
+
+  @Test
+  public void testOtherStrategyPlaysUntilTheThreshold() {
+    ThreeTriosGameModel model = randomPosition(3, 7);
+    Player mover = model.getCurrentPlayer();
+    EndgameStrategy strategy = new EndgameStrategy(new FlipMaxStrategy(), 6);
+    Move move = strategy.determineMove(model, mover);
+    assertFalse(strategy.isLastMoveSolved());
+    assertThrows(IllegalStateException.class, strategy::getLastValue);
+    Move flipMax = new FlipMaxStrategy().determineMove(model, mover);
+    assertEquals(flipMax.getRow(), move.getRow());
+    assertEquals(flipMax.getCol(), move.getCol());
+    assertEquals(flipMax.getCard(), move.getCard());
+
+    model.applyMove(move);
+    strategy.determineMove(model, model.getCurrentPlayer());
+    assertTrue(strategy.isLastMoveSolved());
+  }
+
+  @Test
+  public void testStoppedSearchFallsBackAndLeavesModelAlone() {
+    ThreeTriosGameModel model = randomPosition(5, 9);
+    Player mover = model.getCurrentPlayer();
+    SearchToken token = SearchToken.withTimeout(60_000);
+    token.cancel();
+    EndgameStrategy strategy = new EndgameStrategy(new FlipMaxStrategy(), 9);
+    assertNotNull(strategy.determineMove(model, mover, token));
+    assertFalse(strategy.isLastMoveSolved());
+    assertEquals(5, mover.getHandSize());
+
+    assertThrows(IllegalArgumentException.class, () -> new EndgameStrategy(null));
+    assertThrows(IllegalArgumentException.class, () ->
+            new EndgameStrategy(new FlipMaxStrategy(), 0));
+  }
+
+  @Test
+  public void testTrackedKeysMatchFullHashes() {
+    ThreeTriosGameModel model = randomPosition(8, 9);
+    ThreeTriosGameModel state = SearchSupport.sandboxOf(model, model.getCurrentPlayer());
+    ZobristKeys keys = new ZobristKeys(state);
+    ZobristKeys.Tracker tracker = keys.track(state);
+    state.setMoveRecorder(tracker);
+    Random random = new Random(8);
+    List<Long> seen = new ArrayList<>();
+    MoveOrdering ordering = new MoveOrdering();
+    while (!state.isGameOver()) {
+      seen.add(tracker.key());
+      int count = ordering.generate(state, 0, -1, false);
+      int move = ordering.movesAt(0)[random.nextInt(count)];
+      int handSize = state.getCurrentPlayer().getHandSize();
+      int cell = move / handSize;
+      state.applyMove(new Move(state.getCurrentPlayer().getCardInHand(move % handSize),
+              cell / 3, cell % 3));
+      assertEquals(keys.hash(state), tracker.key());
+    }
+    for (int i = seen.size() - 1; i >= 0; i--) {
+      state.undoMove();
+      assertEquals((long) seen.get(i), tracker.key());
+      assertEquals(keys.hash(state), tracker.key());
+    }
+  }
+}
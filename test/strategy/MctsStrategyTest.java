@@ -0,0 +1,120 @@
+package strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import controller.CardFileReader;
+import controller.CardFileReaderImpl;
+import controller.GridFileReader;
+import controller.GridFileReaderImpl;
+import model.Card;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the Monte Carlo Tree Search strategy.
+ */
+public class MctsStrategyTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    GridFileReader gridReader = new GridFileReaderImpl();
+    CardFileReader cardReader = new CardFileReaderImpl();
+    List<Card> cards = cardReader.readCards(new File("resources/card_configs/cards3.txt"));
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    model.initializeGame(gridReader.readGrid(new File("resources/grid_configs/grid1.txt")),
+            cards, null);
+  }
+
+  @Test
+  public void testReturnsLegalMove() {
+    Move move = new MctsStrategy(2, 50, 1).determineMove(model, playerRed);
+    assertNotNull(move);
+    assertTrue(model.isLegalMove(playerRed, move.getRow(), move.getCol()));
+    assertTrue(playerRed.getHand().contains(move.getCard()));
+  }
+
+  @Test
+  public void testSearchDoesNotChangeModel() {
+    new MctsStrategy(2, 50, 1).determineMove(model, playerRed);
+    assertEquals(5, playerRed.getHand().size());
+    assertEquals(5, playerBlue.getHand().size());
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        assertFalse(model.getCellAt(row, col).isOccupied());
+      }
+    }
+  }
+
+  @Test
+  public void testReturnsWithinBudget() {
+    long start = System.currentTimeMillis();
+    new MctsStrategy(2, 100, 1).determineMove(model, playerRed);
+    assertTrue(System.currentTimeMillis() - start < 2000);
+  }
+
+  @Test
+  public void testOnlyMoveIsChosen() {
+    Player current = playerRed;
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        if (row == 2 && col == 2) {
+          continue;
+        }
+        model.placeCard(current, current.getHand().get(0), row, col);
+        model.switchTurn();
+        current = model.getCurrentPlayer();
+      }
+    }
+    Move move = new MctsStrategy(1, 50, 1).determineMove(model, current);
+    assertEquals(2, move.getRow());
+    assertEquals(2, move.getCol());
+    assertEquals(current.getHand().get(0), move.getCard());
+  }
+
+  @Test
+  public void testInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(0, 100));
+    assertThrows(IllegalArgumentException.class, () -> new MctsStrategy(2, 0));
+  }
+
+  private static long workerThreads() {
+    return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.isAlive() && thread.getName().equals("mcts-worker"))
+            .count();
+  }
+
+  @Test
+  public void testCloseStopsWorkerThreads() throws InterruptedException {
+    long before = workerThreads();
+    MctsStrategy strategy = new MctsStrategy(2, 50, 1);
+    strategy.determineMove(model, playerRed);
+    assertEquals(before + 2, workerThreads());
+
+    strategy.close();
+    long deadline = System.currentTimeMillis() + 2000;
+    while (workerThreads() > before && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertEquals(before, workerThreads());
+    strategy.close();
+    assertThrows(IllegalStateException.class, () -> strategy.determineMove(model, playerRed));
+  }
+}
@@ -0,0 +1,158 @@
+package strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import controller.CardFileReader;
+import controller.CardFileReaderImpl;
+import controller.GridFileReader;
+import controller.GridFileReaderImpl;
+import model.AIPlayer;
+import model.Card;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the minimax strategy which searches several moves ahead.
+ */
+public class MinimaxStrategyTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    GridFileReader gridReader = new GridFileReaderImpl();
+    CardFileReader cardReader = new CardFileReaderImpl();
+    List<Card> cards = cardReader.readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    // no shuffle: Red holds CardA..CardE, Blue holds CardF..CardJ
+    model.initializeGame(gridReader.readGrid(new File("resources/grid_configs/grid1.txt")),
+            cards, null);
+  }
+
+  @Test
+  public void testDepthOneTakesFlipWithTieBreak() {
+    model.setCurrentPlayerForTest(playerBlue);
+    model.placeCard(playerBlue, playerBlue.getHand().get(0), 0, 1); // CardF 3 3 3 3
+    model.switchTurn();
+
+    Move move = new MinimaxStrategy(1, 10_000).determineMove(model, playerRed);
+    assertNotNull(move);
+    assertEquals(0, move.getRow());
+    assertEquals(0, move.getCol());
+    assertSame(playerRed.getHand().get(0), move.getCard()); // CardA 5 5 5 5
+  }
+
+  @Test
+  public void testCancelledSearchReturnsFirstLegalMove() {
+    SearchToken token = SearchToken.withTimeout(60_000);
+    token.cancel();
+    Move move = new MinimaxStrategy(9, Long.MAX_VALUE).determineMove(model, playerRed, token);
+    assertNotNull(move);
+    assertEquals(0, move.getRow());
+    assertEquals(0, move.getCol());
+    assertSame(playerRed.getHand().get(0), move.getCard());
+  }
+
+  @Test
+  public void testSearchDoesNotChangeModel() {
+    new MinimaxStrategy(3, 10_000).determineMove(model, playerRed);
+    assertEquals(5, playerRed.getHand().size());
+    assertEquals(5, playerBlue.getHand().size());
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        assertFalse(model.getCellAt(row, col).isOccupied());
+      }
+    }
+  }
+
+  @Test
+  public void testTinyBudgetStillReturnsLegalMove() {
+    Move move = new MinimaxStrategy(4, 1).determineMove(model, playerRed);
+    assertNotNull(move);
+    assertTrue(model.isLegalMove(playerRed, move.getRow(), move.getCol()));
+    assertTrue(playerRed.getHand().contains(move.getCard()));
+  }
+
+  @Test
+  public void testInvalidConfiguration() {
+    assertThrows(IllegalArgumentException.class, () -> new MinimaxStrategy(0, 100));
+    assertThrows(IllegalArgumentException.class, () -> new MinimaxStrategy(2, 0));
+    assertThrows(IllegalArgumentException.class, () -> MinimaxStrategy.withTimeBudget(0));
+    assertThrows(IllegalArgumentException.class, () ->
+            new AIPlayer("Blue", new MinimaxStrategy(), 0));
+  }
+
+  @Test
+  public void testTimeBudgetReturnsMoveOfDeepestCompletedSearch() {
+    MinimaxStrategy timed = MinimaxStrategy.withTimeBudget(150);
+    long start = System.nanoTime();
+    Move move = timed.determineMove(model, playerRed);
+    assertTrue(System.nanoTime() - start < 2_000_000_000L);
+
+    SearchStats stats = timed.getLastSearchStats();
+    assertTrue(stats.getDepth() >= 1);
+    assertTrue(stats.getNodes() > 0);
+    Move fixed = new MinimaxStrategy(stats.getDepth(), Long.MAX_VALUE)
+            .determineMove(model, playerRed);
+    assertEquals(fixed.getRow(), move.getRow());
+    assertEquals(fixed.getCol(), move.getCol());
+    assertSame(fixed.getCard(), move.getCard());
+  }
+
+  @Test
+  public void testDeepeningStopsAtTheEndOfTheGame() {
+    int[][] cells = {{0, 0}, {2, 2}, {0, 2}, {2, 0}, {1, 1}};
+    for (int[] cell : cells) {
+      Player mover = model.getCurrentPlayer();
+      model.applyMove(new Move(mover.getCardInHand(0), cell[0], cell[1]));
+    }
+    MinimaxStrategy timed = MinimaxStrategy.withTimeBudget(60_000);
+    long start = System.nanoTime();
+    assertNotNull(timed.determineMove(model, model.getCurrentPlayer()));
+    assertTrue(System.nanoTime() - start < 10_000_000_000L);
+    assertEquals(4, timed.getLastSearchStats().getDepth());
+  }
+
+  @Test
+  public void testAiPlayerRecordsEverySearch() {
+    List<Card> cards = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    AIPlayer red = new AIPlayer("Red", MinimaxStrategy.withTimeBudget(50), 50);
+    AIPlayer blue = new AIPlayer("Blue", new FlipMaxStrategy());
+    ThreeTriosGameModel game = new ThreeTriosGameModel();
+    game.setPlayers(red, blue);
+    game.initializeGame(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid1.txt")), cards, null);
+    while (!game.isGameOver()) {
+      ((AIPlayer) game.getCurrentPlayer()).takeTurn(game);
+      game.switchTurn();
+    }
+
+    assertEquals(5, red.getSearchStats().size());
+    for (SearchStats stats : red.getSearchStats()) {
+      assertTrue(stats.getDepth() >= 1);
+      assertTrue(stats.getNodes() > 0);
+    }
+    // the last move leaves one cell, so one ply searches to the end
+    assertEquals(1, red.getSearchStats().get(4).getDepth());
+    assertTrue(blue.getSearchStats().isEmpty());
+  }
+}
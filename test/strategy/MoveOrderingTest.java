@@ -0,0 +1,245 @@
+package strategy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import controller.CardFileReaderImpl;
+import controller.GridFileReaderImpl;
+import model.Card;
+import model.GridType;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the move ordering shared by the search strategies.
+ */
+public class MoveOrderingTest {
+  private ThreeTriosGameModel model;
+  private Player playerRed;
+  private Player playerBlue;
+
+  @Before
+  public void setUp() {
+    List<Card> cards = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards_for_combo.txt"));
+    playerRed = new PlayerImpl("Red");
+    playerBlue = new PlayerImpl("Blue");
+    model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    // no shuffle: Red holds CardA..CardE, Blue holds CardF..CardJ
+    model.initializeGame(new GridFileReaderImpl().readGrid(
+            new File("resources/grid_configs/grid1.txt")), cards, null);
+  }
+
+  private static int[] listed(MoveOrdering ordering, int ply, int count) {
+    int[] moves = new int[count];
+    System.arraycopy(ordering.movesAt(ply), 0, moves, 0, count);
+    return moves;
+  }
+
+  @Test
+  public void testRanksByFlipsThenPlacement() {
+    // Blue's CardH (1 1 1 1) in the middle can be flipped from every edge cell
+    model.setCurrentPlayerForTest(playerBlue);
+    model.placeCard(playerBlue, playerBlue.getHand().get(2), 1, 1);
+    model.switchTurn();
+    ThreeTriosGameModel state = SearchSupport.sandboxOf(model, playerRed);
+    Player mover = state.getCurrentPlayer();
+
+    MoveOrdering ordering = new MoveOrdering();
+    ordering.clear();
+    int count = ordering.generate(state, 0, -1, true);
+    assertEquals(8 * 5, count);
+    int[] moves = listed(ordering, 0, count);
+    int previous = Integer.MAX_VALUE;
+    for (int i = 0; i < count; i++) {
+      int cell = moves[i] / 5;
+      int row = cell / 3;
+      int col = cell % 3;
+      int flips = state.getCascadeFlips(mover, mover.getCardInHand(moves[i] % 5), row, col);
+      int corner = row != 1 && col != 1 ? 1 : 0;
+      int rank = flips * 2 + corner;
+      assertTrue("move " + i, rank <= previous);
+      previous = rank;
+    }
+    // every card flips CardH, so the flipping edge cells come first, in tie-break order
+    assertEquals(5, moves[0]);
+    assertEquals(6, moves[1]);
+  }
+
+  @Test
+  public void testGivenMoveAndKillersGoFirst() {
+    ThreeTriosGameModel state = SearchSupport.sandboxOf(model, playerRed);
+    MoveOrdering ordering = new MoveOrdering();
+    ordering.clear();
+    int count = ordering.generate(state, 0, -1, false);
+    int[] plain = listed(ordering, 0, count);
+    for (int i = 0; i < count; i++) {
+      assertEquals(i, plain[i]);
+    }
+
+    ordering.cutoff(state, 0, 17, 2);
+    ordering.cutoff(state, 0, 30, 2);
+    ordering.generate(state, 0, 9, false);
+    int[] moves = listed(ordering, 0, count);
+    assertArrayEquals(new int[] {9, 30, 17, 0, 1, 2}, Arrays.copyOf(moves, 6));
+
+    // nothing flips on an empty board, so corners go first, then edges, and among those the
+    // killer, then the cell with the most cutoffs
+    ordering.generate(state, 0, -1, true);
+    moves = listed(ordering, 0, count);
+    assertEquals(30, moves[0]);
+    assertEquals(31, moves[1]);
+    assertEquals(0, moves[5]);
+    assertEquals(17, moves[4 * 5]);
+    assertEquals(15, moves[4 * 5 + 1]);
+    assertEquals(4 * 5, moves[count - 5]);
+
+    // killers are kept per ply
+    ordering.generate(state, 1, -1, false);
+    assertEquals(0, ordering.movesAt(1)[0]);
+    ordering.clear();
+    ordering.generate(state, 0, -1, false);
+    assertEquals(0, ordering.movesAt(0)[0]);
+  }
+
+  private static int cellsOwnedBy(ThreeTriosGameModel state, Player player) {
+    int owned = 0;
+    for (int row = 0; row < state.getGridRows(); row++) {
+      for (int col = 0; col < state.getGridCols(); col++) {
+        if (player.equals(state.getCardOwnerAt(row, col))) {
+          owned++;
+        }
+      }
+    }
+    return owned;
+  }
+
+  @Test
+  public void testCascadeFlipsMatchMovesInBitboardSandbox() {
+    // the sandbox's players are copies, while its grid still holds the game's own owners
+    List<Card> deck = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards3.txt"));
+    for (long seed = 0; seed < 4; seed++) {
+      ThreeTriosGameModel game = new ThreeTriosGameModel();
+      game.setPlayers(new PlayerImpl("Red"), new PlayerImpl("Blue"));
+      Random random = new Random(seed);
+      game.initializeGame(new GridFileReaderImpl(GridType.BITBOARD).readGrid(
+              new File("resources/grid_configs/grid1.txt")), new ArrayList<>(deck), random);
+      while (!game.isGameOver()) {
+        ThreeTriosGameModel state = SearchSupport.sandboxOf(game, game.getCurrentPlayer());
+        Player mover = state.getCurrentPlayer();
+        for (int row = 0; row < 3; row++) {
+          for (int col = 0; col < 3; col++) {
+            if (!state.isLegalMove(mover, row, col)) {
+              continue;
+            }
+            for (int card = 0; card < mover.getHandSize(); card++) {
+              int predicted = state.getCascadeFlips(mover, mover.getCardInHand(card), row, col);
+              int before = cellsOwnedBy(state, mover);
+              state.applyMove(new Move(mover.getCardInHand(card), row, col));
+              int flipped = cellsOwnedBy(state, mover) - before - 1;
+              state.undoMove();
+              assertEquals("seed " + seed + " at " + row + "," + col, flipped, predicted);
+            }
+          }
+        }
+        Player player = game.getCurrentPlayer();
+        List<Move> legal = new ArrayList<>();
+        for (int row = 0; row < 3; row++) {
+          for (int col = 0; col < 3; col++) {
+            if (game.isLegalMove(player, row, col)) {
+              legal.add(new Move(player.getCardInHand(random.nextInt(player.getHandSize())),
+                      row, col));
+            }
+          }
+        }
+        game.applyMove(legal.get(random.nextInt(legal.size())));
+      }
+    }
+  }
+
+  /**
+   * Minimax without pruning, with the score the strategy gives to finished games.
+   */
+  private static int plainMinimax(ThreeTriosGameModel state, int depth) {
+    if (state.isGameOver()) {
+      int difference = SearchSupport.scoreDifference(state);
+      return difference + Integer.signum(difference) * 1000;
+    }
+    if (depth == 0) {
+      return SearchSupport.scoreDifference(state);
+    }
+    Player mover = state.getCurrentPlayer();
+    int best = Integer.MIN_VALUE;
+    for (int row = 0; row < 3; row++) {
+      for (int col = 0; col < 3; col++) {
+        if (!state.isLegalMove(mover, row, col)) {
+          continue;
+        }
+        for (int card = 0; card < mover.getHandSize(); card++) {
+          state.applyMove(new Move(mover.getCardInHand(card), row, col));
+          best = Math.max(best, -plainMinimax(state, depth - 1));
+          state.undoMove();
+        }
+      }
+    }
+    return best;
+  }
+
+  @Test
+  public void testOrderedSearchKeepsTieBreak() {
+    List<Card> deck = new CardFileReaderImpl().readCards(
+            new File("resources/card_configs/cards3.txt"));
+    for (long seed = 0; seed < 8; seed++) {
+      ThreeTriosGameModel game = new ThreeTriosGameModel();
+      game.setPlayers(new PlayerImpl("Red"), new PlayerImpl("Blue"));
+      Random random = new Random(seed);
+      game.initializeGame(new GridFileReaderImpl().readGrid(
+              new File("resources/grid_configs/grid1.txt")), new ArrayList<>(deck), random);
+      for (int played = 0; played < 2; played++) {
+        game.applyMove(new FlipMaxStrategy().determineMove(game, game.getCurrentPlayer()));
+      }
+      Player mover = game.getCurrentPlayer();
+      Move move = new MinimaxStrategy(3, Long.MAX_VALUE).determineMove(game, mover);
+
+      // the uppermost-leftmost, lowest-index move of those with the best value
+      ThreeTriosGameModel check = SearchSupport.sandboxOf(game, mover);
+      Player checkMover = check.getCurrentPlayer();
+      Move expected = null;
+      int bestValue = Integer.MIN_VALUE;
+      for (int row = 0; row < 3; row++) {
+        for (int col = 0; col < 3; col++) {
+          if (!check.isLegalMove(checkMover, row, col)) {
+            continue;
+          }
+          for (int card = 0; card < checkMover.getHandSize(); card++) {
+            check.applyMove(new Move(checkMover.getCardInHand(card), row, col));
+            int value = -plainMinimax(check, 2);
+            check.undoMove();
+            if (value > bestValue) {
+              bestValue = value;
+              expected = new Move(mover.getCardInHand(card), row, col);
+            }
+          }
+        }
+      }
+      assertEquals("seed " + seed, expected.getRow(), move.getRow());
+      assertEquals("seed " + seed, expected.getCol(), move.getCol());
+      assertSame("seed " + seed, expected.getCard(), move.getCard());
+    }
+  }
+}
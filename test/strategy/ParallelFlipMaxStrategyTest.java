@@ -0,0 +1,82 @@
+package strategy;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import model.Card;
+import model.CardFactory;
+import model.Cell;
+import model.CellImpl;
+import model.GridFactory;
+import model.Move;
+import model.Player;
+import model.PlayerImpl;
+import model.ThreeTriosGameModel;
+import model.Value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Tests that FlipMaxStrategy picks exactly the same moves with and without a ForkJoinPool.
+ */
+public class ParallelFlipMaxStrategyTest {
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @After
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  /**
+   * Plays a whole game on a 10x10 grid with random cards, so the moves are spread over many
+   * tasks, checking the parallel choice against the sequential one before every move.
+   */
+  private void assertSameMovesOverGame(boolean countCascades) {
+    Random random = new Random(11);
+    Cell[][] cells = new Cell[10][10];
+    for (int row = 0; row < 10; row++) {
+      for (int col = 0; col < 10; col++) {
+        cells[row][col] = new CellImpl(false);
+      }
+    }
+    List<Card> cards = new ArrayList<>();
+    Value[] values = Value.values();
+    for (int i = 0; i < 101; i++) {
+      cards.add(CardFactory.createCard("Card" + i, values[random.nextInt(10)],
+              values[random.nextInt(10)], values[random.nextInt(10)], values[random.nextInt(10)]));
+    }
+    Player playerRed = new PlayerImpl("Red");
+    Player playerBlue = new PlayerImpl("Blue");
+    ThreeTriosGameModel model = new ThreeTriosGameModel();
+    model.setPlayers(playerRed, playerBlue);
+    model.initializeGame(GridFactory.createGrid(cells), cards, random);
+
+    MoveStrategy sequential = new FlipMaxStrategy(countCascades);
+    MoveStrategy parallel = new FlipMaxStrategy(countCascades, pool);
+    while (!model.isGameOver()) {
+      Player mover = model.getCurrentPlayer();
+      Move expected = sequential.determineMove(model, mover);
+      Move actual = parallel.determineMove(model, mover);
+      assertSame(expected.getCard(), actual.getCard());
+      assertEquals(expected.getRow(), actual.getRow());
+      assertEquals(expected.getCol(), actual.getCol());
+      model.applyMove(expected);
+    }
+  }
+
+  @Test
+  public void testParallelMatchesSequential() {
+    assertSameMovesOverGame(false);
+  }
+
+  @Test
+  public void testParallelMatchesSequentialInCascadeMode() {
+    assertSameMovesOverGame(true);
+  }
+}
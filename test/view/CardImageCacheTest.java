@@ -0,0 +1,76 @@
+package view;
+
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+/**
+ * Tests that CardImageCache draws each face once and drops the least recently used faces when
+ * it runs over its pixel budget.
+ */
+public class CardImageCacheTest {
+  private int paints;
+  private final CardImageCache.CardPainter painter = (g, values, background, width, height) -> {
+    paints++;
+    g.setColor(background);
+    g.fillRect(0, 0, width, height);
+  };
+
+  @Test
+  public void testFacesAreDrawnOnce() {
+    CardImageCache cache = new CardImageCache(CardImageCache.DEFAULT_MAX_PIXELS);
+    BufferedImage image = cache.getImage(painter, 0x5555, Color.PINK, 20, 30, 1.0);
+    assertSame(image, cache.getImage(painter, 0x5555, Color.PINK, 20, 30, 1.0));
+    assertEquals(1, paints);
+    assertEquals(Color.PINK.getRGB(), image.getRGB(19, 29));
+
+    assertNotSame(image, cache.getImage(painter, 0x5555, Color.CYAN, 20, 30, 1.0));
+    assertNotSame(image, cache.getImage(painter, 0x5556, Color.PINK, 20, 30, 1.0));
+    assertNotSame(image, cache.getImage(painter, 0x5555, Color.PINK, 30, 20, 1.0));
+    assertEquals(4, paints);
+    assertEquals(4, cache.size());
+    assertEquals(4 * 600, cache.getPixelCount());
+  }
+
+  @Test
+  public void testScaledFacesHaveMorePixels() {
+    CardImageCache cache = new CardImageCache(CardImageCache.DEFAULT_MAX_PIXELS);
+    BufferedImage image = cache.getImage(painter, 0x1111, Color.PINK, 20, 30, 2.0);
+    assertEquals(40, image.getWidth());
+    assertEquals(60, image.getHeight());
+    assertEquals(Color.PINK.getRGB(), image.getRGB(39, 59));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedFacesAreDropped() {
+    CardImageCache cache = new CardImageCache(3 * 100);
+    BufferedImage first = cache.getImage(painter, 0x1111, Color.PINK, 10, 10, 1.0);
+    BufferedImage second = cache.getImage(painter, 0x2222, Color.PINK, 10, 10, 1.0);
+    cache.getImage(painter, 0x3333, Color.PINK, 10, 10, 1.0);
+    assertSame(first, cache.getImage(painter, 0x1111, Color.PINK, 10, 10, 1.0));
+
+    cache.getImage(painter, 0x4444, Color.PINK, 10, 10, 1.0);
+    assertEquals(3, cache.size());
+    assertEquals(300, cache.getPixelCount());
+    assertSame(first, cache.getImage(painter, 0x1111, Color.PINK, 10, 10, 1.0));
+    assertNotSame(second, cache.getImage(painter, 0x2222, Color.PINK, 10, 10, 1.0));
+    assertEquals(5, paints);
+  }
+
+  @Test
+  public void testOversizedFacesAreNotKept() {
+    CardImageCache cache = new CardImageCache(100);
+    cache.getImage(painter, 0x1111, Color.PINK, 20, 20, 1.0);
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getPixelCount());
+    assertThrows(IllegalArgumentException.class, () ->
+            cache.getImage(painter, 0x1111, Color.PINK, 0, 20, 1.0));
+    assertThrows(IllegalArgumentException.class, () -> new CardImageCache(0));
+  }
+}